@@ -0,0 +1,125 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client;
+
+import com.electronwill.nightconfig.core.Config;
+import dev.lambdaurora.lambdacontrols.client.controller.ButtonBinding;
+import dev.lambdaurora.lambdacontrols.client.controller.InputManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the bulk binding loader with the per-binding regex loader it replaced, with 512 bindings.
+ * <p>
+ * The previous loader looked each binding up by its full path, parsed its code with a regex,
+ * and sorted every binding after each of its two {@code setButton} calls.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingLoaderBenchmark {
+    private static final int BINDING_COUNT = 512;
+    private static final Pattern BUTTON_BINDING_PATTERN = Pattern.compile("(-?\\d+)\\+?");
+    private static final Consumer<String> IGNORE_ERRORS = reason -> {
+    };
+
+    private final Config config = Config.inMemory();
+    // The bulk loader commits into the registry, the regex loader works on unregistered copies and sorts them itself.
+    private final List<ButtonBinding> registered = new ArrayList<>();
+    private final List<ButtonBinding> unregistered = new ArrayList<>();
+    private List<ButtonBinding> sorted;
+
+    @Setup
+    public void setup() {
+        for (int i = 0; i < BINDING_COUNT; i++) {
+            var name = "benchmark_" + i;
+            this.registered.add(InputManager.registerBinding(new ButtonBinding(name, new int[]{-1}, false)));
+            this.unregistered.add(new ButtonBinding(name, new int[]{-1}, false));
+            this.config.set("controller.controls." + name, code(i));
+        }
+        this.sorted = InputManager.streamBindings().filter(binding -> !this.registered.contains(binding)).collect(Collectors.toList());
+        this.sorted.addAll(this.unregistered);
+    }
+
+    private static String code(int i) {
+        int button = i % 15;
+        return switch (i & 3) {
+            case 0 -> String.valueOf(button);
+            case 1 -> button + "+" + (button + 1) % 15;
+            case 2 -> button + "+" + (button + 1) % 15 + "+" + (button + 2) % 15;
+            default -> "-1";
+        };
+    }
+
+    @Benchmark
+    public void bulkLoader(Blackhole blackhole) {
+        Config controls = this.config.get("controller.controls");
+        for (var binding : this.registered) {
+            Object raw = controls.get(binding.getName());
+            var buttons = raw == null ? null : LambdaControlsConfig.parseButtonCode(String.valueOf(raw), IGNORE_ERRORS);
+            // Always committed, unlike the real loader which skips unchanged bindings.
+            binding.setButton(buttons == null ? binding.getDefaultButton() : buttons);
+        }
+        // Reading the bindings rebuilds the order once.
+        blackhole.consume(InputManager.streamBindings().findFirst());
+    }
+
+    @Benchmark
+    public void regexLoader(Blackhole blackhole) {
+        for (var binding : this.unregistered) {
+            this.setButtonAndSort(binding, binding.getDefaultButton());
+            var code = this.config.getOrElse("controller.controls." + binding.getName(), binding.getButtonCode());
+            var matcher = BUTTON_BINDING_PATTERN.matcher(code);
+            var buttons = new int[1];
+            int count = 0;
+            while (matcher.find()) {
+                count++;
+                if (count > buttons.length)
+                    buttons = Arrays.copyOf(buttons, count);
+                buttons[count - 1] = Integer.parseInt(matcher.group(1));
+            }
+            this.setButtonAndSort(binding, buttons);
+        }
+        blackhole.consume(this.sorted);
+    }
+
+    private void setButtonAndSort(ButtonBinding binding, int[] buttons) {
+        binding.setButton(buttons);
+        this.sorted = this.sorted.stream()
+                .sorted(Collections.reverseOrder(Comparator.comparingInt(other -> other.getButton().length)))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import dev.lambdaurora.lambdacontrols.LambdaControlsFeature;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the binding and feature lookups by name, and the duplicated binding check,
+ * with the {@code parallelStream} scans they replaced.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindingLookupBenchmark {
+    private final List<LambdaControlsFeature> features = List.of(LambdaControlsFeature.FAST_BLOCK_PLACING,
+            LambdaControlsFeature.HORIZONTAL_REACHAROUND, LambdaControlsFeature.VERTICAL_REACHAROUND);
+    private List<ButtonBinding> bindings;
+    private String bindingName;
+    private ButtonBinding binding;
+
+    @Setup
+    public void setup() {
+        this.binding = ButtonBinding.TOGGLE_PERSPECTIVE;
+        this.bindingName = this.binding.getName().toUpperCase(Locale.ROOT);
+        this.bindings = InputManager.streamBindings().collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public boolean hasBindingIndexed() {
+        return InputManager.hasBinding(this.bindingName);
+    }
+
+    @Benchmark
+    public boolean hasBindingParallelStream() {
+        return this.bindings.parallelStream().map(ButtonBinding::getName).anyMatch(name -> name.equalsIgnoreCase(this.bindingName));
+    }
+
+    @Benchmark
+    public boolean hasDuplicatedBindingsIndexed() {
+        return InputManager.hasDuplicatedBindings(this.binding);
+    }
+
+    @Benchmark
+    public boolean hasDuplicatedBindingsParallelStream() {
+        return this.bindings.parallelStream().filter(other -> InputManager.areButtonsEquivalent(other.getButton(), this.binding.getButton())
+                && other.filter.equals(this.binding.filter)).count() > 1;
+    }
+
+    @Benchmark
+    public Optional<LambdaControlsFeature> featureFromNameIndexed() {
+        return LambdaControlsFeature.fromName("vertical_reacharound");
+    }
+
+    @Benchmark
+    public Optional<LambdaControlsFeature> featureFromNameParallelStream() {
+        return this.features.parallelStream().filter(feature -> feature.getName().equals("vertical_reacharound")).findFirst();
+    }
+}
@@ -9,11 +9,13 @@
 
 package dev.lambdaurora.lambdacontrols;
 
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import org.aperlambda.lambdacommon.utils.Nameable;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -21,11 +23,12 @@ import java.util.Optional;
  * Represents a feature.
  *
  * @author LambdAurora
- * @version 1.5.0
+ * @version 1.8.0
  * @since 1.1.0
  */
 public class LambdaControlsFeature implements Nameable {
     private static final List<LambdaControlsFeature> FEATURES = new ArrayList<>();
+    private static final Map<String, LambdaControlsFeature> FEATURES_BY_NAME = new Object2ObjectOpenHashMap<>();
     public static final LambdaControlsFeature FAST_BLOCK_PLACING = new LambdaControlsFeature("fast_block_placing", true, true);
     public static final LambdaControlsFeature HORIZONTAL_REACHAROUND = new LambdaControlsFeature("horizontal_reacharound", true, false);
     public static final LambdaControlsFeature VERTICAL_REACHAROUND = new LambdaControlsFeature("vertical_reacharound", true, false);
@@ -123,26 +126,33 @@ public class LambdaControlsFeature implements Nameable {
 
     public static @NotNull Optional<LambdaControlsFeature> fromName(@NotNull String key) {
         Objects.requireNonNull(key, "Cannot find features with a null name.");
-        return FEATURES.parallelStream().filter(feature -> feature.getName().equals(key)).findFirst();
+        return Optional.ofNullable(FEATURES_BY_NAME.get(key));
     }
 
     /**
      * Resets all features to their default values.
      */
     public static void resetAll() {
-        FEATURES.parallelStream().forEach(LambdaControlsFeature::reset);
+        for (var feature : FEATURES)
+            feature.reset();
     }
 
     /**
      * Resets all features to allow state.
      */
     public static void resetAllAllowed() {
-        FEATURES.parallelStream().forEach(LambdaControlsFeature::resetAllowed);
+        for (var feature : FEATURES)
+            feature.resetAllowed();
+    }
+
+    private static void register(@NotNull LambdaControlsFeature feature) {
+        FEATURES.add(feature);
+        FEATURES_BY_NAME.put(feature.getName(), feature);
     }
 
     static {
-        FEATURES.add(FAST_BLOCK_PLACING);
-        FEATURES.add(HORIZONTAL_REACHAROUND);
-        FEATURES.add(VERTICAL_REACHAROUND);
+        register(FAST_BLOCK_PLACING);
+        register(HORIZONTAL_REACHAROUND);
+        register(VERTICAL_REACHAROUND);
     }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client;
+
+import com.electronwill.nightconfig.core.file.FileConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ConcurrentModificationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Represents a write-behind saver of the configuration file.
+ * <p>
+ * Save requests made within the debounce window are coalesced into a single write,
+ * the configuration is serialized and written on a background thread to a temporary file which then replaces the configuration file.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+final class ConfigSaver {
+    private static final long DEBOUNCE_MILLIS = 500;
+
+    private final LambdaControlsClient mod;
+    private final FileConfig config;
+    private final Path path;
+    private final Path tempPath;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        var thread = new Thread(runnable, "LambdaControls Config Saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> pending;
+    private boolean scheduled = false;
+    private volatile String lastWritten;
+
+    ConfigSaver(@NotNull LambdaControlsClient mod, @NotNull FileConfig config) {
+        this.mod = mod;
+        this.config = config;
+        this.path = config.getNioPath().toAbsolutePath();
+        this.tempPath = this.path.resolveSibling(this.path.getFileName() + ".tmp");
+    }
+
+    /**
+     * Requests the configuration to be saved, the write happens at the end of the debounce window.
+     */
+    public synchronized void requestSave() {
+        // A write which didn't start yet will serialize the latest state.
+        if (this.scheduled)
+            return;
+        this.scheduled = true;
+        this.pending = this.executor.schedule(this::write, DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Writes the pending changes immediately and waits for the write to finish.
+     * <p>
+     * If a write is already running, waits for it to finish, and writes again after it if a save was requested since it started.
+     */
+    public void flush() {
+        Future<?> write;
+        synchronized (this) {
+            if (this.scheduled) {
+                // The saver thread runs the writes in order, so this write happens after the running one if any.
+                this.pending.cancel(false);
+                this.pending = this.executor.submit(this::write);
+            }
+            write = this.pending;
+        }
+        if (write == null)
+            return;
+        try {
+            write.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            this.mod.warn("Failed to flush the configuration: " + e.getCause());
+        }
+    }
+
+    /**
+     * Returns the content of the last write made by this saver.
+     *
+     * @return the last written content, or {@code null} if nothing was written yet
+     */
+    public String getLastWritten() {
+        return this.lastWritten;
+    }
+
+    private void write() {
+        synchronized (this) {
+            this.scheduled = false;
+        }
+
+        String content;
+        try {
+            content = this.config.configFormat().createWriter().writeToString(this.config);
+        } catch (ConcurrentModificationException e) {
+            // The configuration got modified while serializing, try again later.
+            this.requestSave();
+            return;
+        }
+
+        try {
+            Files.createDirectories(this.path.getParent());
+            Files.writeString(this.tempPath, content, StandardCharsets.UTF_8);
+            this.lastWritten = content;
+            try {
+                Files.move(this.tempPath, this.path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(this.tempPath, this.path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            this.mod.log("Configuration saved.");
+        } catch (IOException e) {
+            this.mod.warn("Failed to save the configuration: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client;
+
+import com.electronwill.nightconfig.core.Config;
+import com.electronwill.nightconfig.core.ConfigFormat;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Represents a watcher of the configuration file, which picks up the changes made by other programs.
+ * <p>
+ * The file is read and parsed on the watcher thread, the parsed configuration is then handed to the client thread.
+ * Writes made by the {@link ConfigSaver} are recognized by their content and ignored.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+final class ConfigWatcher {
+    // Lets editors finish writing before reading the file.
+    private static final long SETTLE_MILLIS = 100;
+
+    private final LambdaControlsClient mod;
+    private final Path path;
+    private final ConfigFormat<?> format;
+    private final ConfigSaver saver;
+    private WatchService watchService;
+    private Thread thread;
+
+    ConfigWatcher(@NotNull LambdaControlsClient mod, @NotNull Path path, @NotNull ConfigFormat<?> format, @NotNull ConfigSaver saver) {
+        this.mod = mod;
+        this.path = path.toAbsolutePath();
+        this.format = format;
+        this.saver = saver;
+    }
+
+    /**
+     * Starts watching the configuration file.
+     *
+     * @param executor the executor of the client thread
+     * @param consumer the consumer of the externally changed configuration, called on the client thread
+     */
+    public synchronized void start(@NotNull Executor executor, @NotNull Consumer<Config> consumer) {
+        if (this.thread != null)
+            return;
+        try {
+            this.watchService = this.path.getFileSystem().newWatchService();
+            this.path.getParent().register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        } catch (IOException e) {
+            this.mod.warn("Failed to watch the configuration file: " + e.getMessage());
+            return;
+        }
+        this.thread = new Thread(() -> this.run(executor, consumer), "LambdaControls Config Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    /**
+     * Stops watching the configuration file.
+     */
+    public synchronized void stop() {
+        if (this.thread == null)
+            return;
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            this.mod.warn("Failed to stop watching the configuration file: " + e.getMessage());
+        }
+        this.thread = null;
+    }
+
+    private void run(@NotNull Executor executor, @NotNull Consumer<Config> consumer) {
+        var fileName = this.path.getFileName();
+        try {
+            while (true) {
+                var key = this.watchService.take();
+                boolean changed = false;
+                for (var event : key.pollEvents()) {
+                    if (fileName.equals(event.context()))
+                        changed = true;
+                }
+                key.reset();
+                if (!changed)
+                    continue;
+
+                Thread.sleep(SETTLE_MILLIS);
+                this.read().ifPresent(config -> executor.execute(() -> consumer.accept(config)));
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // The watcher has been stopped.
+        }
+    }
+
+    private Optional<Config> read() {
+        String content;
+        try {
+            content = Files.readString(this.path, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            this.mod.warn("Failed to read the changed configuration: " + e.getMessage());
+            return Optional.empty();
+        }
+        if (content.equals(this.saver.getLastWritten()))
+            return Optional.empty();
+
+        try {
+            return Optional.of(this.format.createParser().parse(content));
+        } catch (Exception e) {
+            this.mod.warn("Failed to parse the changed configuration: " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
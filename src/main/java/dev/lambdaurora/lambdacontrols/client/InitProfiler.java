@@ -0,0 +1,131 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Represents the profiler of the initialization phases of the mod.
+ * <p>
+ * Phases either run immediately, in the background or lazily on first use,
+ * their durations are recorded in nanoseconds and logged if debug is enabled.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class InitProfiler {
+    private final LambdaControlsClient mod;
+    private final List<Phase> phases = new CopyOnWriteArrayList<>();
+    private volatile boolean reported = false;
+
+    public InitProfiler(@NotNull LambdaControlsClient mod) {
+        this.mod = mod;
+    }
+
+    /**
+     * Runs the specified phase immediately.
+     *
+     * @param name the name of the phase
+     * @param phase the phase
+     */
+    public void run(@NotNull String name, @NotNull Runnable phase) {
+        long start = System.nanoTime();
+        phase.run();
+        this.record(name, Kind.IMMEDIATE, System.nanoTime() - start);
+    }
+
+    /**
+     * Records the phase completing the specified future, which runs in the background.
+     *
+     * @param name the name of the phase
+     * @param future the future of the phase
+     * @param <T> the type of the result of the phase
+     * @return the future of the phase
+     */
+    public <T> @NotNull CompletableFuture<T> defer(@NotNull String name, @NotNull CompletableFuture<T> future) {
+        long start = System.nanoTime();
+        return future.whenComplete((result, error) -> this.record(name, Kind.DEFERRED, System.nanoTime() - start));
+    }
+
+    /**
+     * Runs the specified lazy phase, which got postponed until its first use.
+     *
+     * @param name the name of the phase
+     * @param phase the phase
+     */
+    public void runLazy(@NotNull String name, @NotNull Runnable phase) {
+        long start = System.nanoTime();
+        phase.run();
+        this.record(name, Kind.LAZY, System.nanoTime() - start);
+    }
+
+    /**
+     * Logs the phases recorded so far if debug is enabled, the phases recorded afterwards are logged as soon as they end.
+     */
+    public void report() {
+        this.reported = true;
+        if (!this.mod.config.hasDebug())
+            return;
+        long total = 0;
+        for (var phase : this.phases) {
+            this.log(phase);
+            if (phase.kind() == Kind.IMMEDIATE)
+                total += phase.nanos();
+        }
+        this.mod.log(String.format(Locale.ROOT, "Initialization took %dns (%.2fms) on the client thread.", total, total / 1_000_000.0));
+    }
+
+    /**
+     * Returns the recorded phases.
+     *
+     * @return the recorded phases, in completion order
+     */
+    public @NotNull List<Phase> getPhases() {
+        return Collections.unmodifiableList(this.phases);
+    }
+
+    private void record(@NotNull String name, @NotNull Kind kind, long nanos) {
+        var phase = new Phase(name, kind, nanos);
+        this.phases.add(phase);
+        if (this.reported && this.mod.config.hasDebug())
+            this.log(phase);
+    }
+
+    private void log(@NotNull Phase phase) {
+        this.mod.log(String.format(Locale.ROOT, "Init phase \"%s\" (%s): %dns (%.2fms).", phase.name(), phase.kind().name().toLowerCase(Locale.ROOT),
+                phase.nanos(), phase.nanos() / 1_000_000.0));
+    }
+
+    /**
+     * Represents how a phase is run.
+     */
+    public enum Kind {
+        IMMEDIATE,
+        DEFERRED,
+        LAZY
+    }
+
+    /**
+     * Represents a recorded phase.
+     *
+     * @param name the name of the phase
+     * @param kind how the phase was run
+     * @param nanos the duration of the phase in nanoseconds
+     */
+    public record Phase(@NotNull String name, @NotNull Kind kind, long nanos) {
+    }
+}
@@ -16,12 +16,17 @@ import dev.lambdaurora.lambdacontrols.LambdaControlsFeature;
 import dev.lambdaurora.lambdacontrols.client.compat.LambdaControlsCompat;
 import dev.lambdaurora.lambdacontrols.client.controller.ButtonBinding;
 import dev.lambdaurora.lambdacontrols.client.controller.Controller;
+import dev.lambdaurora.lambdacontrols.client.controller.ControllerMappings;
+import dev.lambdaurora.lambdacontrols.client.controller.ControllerPoller;
+import dev.lambdaurora.lambdacontrols.client.controller.ControllerRegistry;
 import dev.lambdaurora.lambdacontrols.client.controller.InputManager;
+import dev.lambdaurora.lambdacontrols.client.event.ControllerConnectionCallback;
 import dev.lambdaurora.lambdacontrols.client.gui.LambdaControlsHud;
 import dev.lambdaurora.lambdacontrols.client.ring.KeyBindingRingAction;
 import dev.lambdaurora.lambdacontrols.client.ring.LambdaRing;
 import dev.lambdaurora.spruceui.hud.HudManager;
 import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.keybinding.v1.KeyBindingHelper;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayConnectionEvents;
@@ -62,7 +67,9 @@ public class LambdaControlsClient extends LambdaControls implements ClientModIni
     public static final Identifier CONTROLLER_AXIS = new Identifier(LambdaControlsConstants.NAMESPACE, "textures/gui/controller_axis.png");
     public static final Identifier CURSOR_TEXTURE = new Identifier(LambdaControlsConstants.NAMESPACE, "textures/gui/cursor.png");
     public final static File MAPPINGS_FILE = new File("config/gamecontrollerdb.txt");
+    public final InitProfiler initProfiler = new InitProfiler(this);
     public final LambdaControlsConfig config = new LambdaControlsConfig(this);
+    public final ControllerPoller poller = new ControllerPoller();
     public final LambdaInput input = new LambdaInput(this);
     public final LambdaRing ring = new LambdaRing(this);
     public final LambdaReacharound reacharound = new LambdaReacharound();
@@ -99,6 +106,10 @@ public class LambdaControlsClient extends LambdaControls implements ClientModIni
 
         ClientTickEvents.START_CLIENT_TICK.register(this.reacharound::tick);
         ClientTickEvents.END_CLIENT_TICK.register(this::onTick);
+        ClientLifecycleEvents.CLIENT_STOPPING.register(client -> {
+            this.config.stopWatching();
+            this.config.flush();
+        });
 
         /*OpenScreenCallback.EVENT.register((client, screen) -> {
             if (screen == null && this.config.getControlsMode() == ControlsMode.TOUCHSCREEN) {
@@ -116,26 +127,36 @@ public class LambdaControlsClient extends LambdaControls implements ClientModIni
 
     /**
      * This method is called when Minecraft is initializing.
+     * <p>
+     * The controller mappings and the compatibility handlers are set up in the background,
+     * the ring pages are parsed on the first use of the ring.
      */
     public void onMcInit(@NotNull MinecraftClient client) {
-        ButtonBinding.init(client.options);
-        this.config.load();
+        this.initProfiler.run("button bindings", () -> ButtonBinding.init(client.options));
+        this.initProfiler.run("controller registry", ControllerRegistry::refreshAll);
+        this.initProfiler.run("configuration", this.config::load);
+        this.initProfiler.run("configuration watcher", () -> this.config.startWatching(client));
         this.hud.setVisible(this.config.isHudEnabled());
-        Controller.updateMappings();
-        GLFW.glfwSetJoystickCallback((jid, event) -> {
-            if (event == GLFW.GLFW_CONNECTED) {
-                var controller = Controller.byId(jid);
-                client.getToastManager().add(new SystemToast(SystemToast.Type.TUTORIAL_HINT, new TranslatableText("lambdacontrols.controller.connected", jid),
-                        new LiteralText(controller.getName())));
-            } else if (event == GLFW.GLFW_DISCONNECTED) {
-                client.getToastManager().add(new SystemToast(SystemToast.Type.TUTORIAL_HINT, new TranslatableText("lambdacontrols.controller.disconnected", jid),
+        this.initProfiler.defer("controller mappings", Controller.updateMappings());
+        ControllerConnectionCallback.EVENT.register(info -> {
+            if (info.connected()) {
+                client.getToastManager().add(new SystemToast(SystemToast.Type.TUTORIAL_HINT, new TranslatableText("lambdacontrols.controller.connected", info.id()),
+                        new LiteralText(info.name())));
+            } else {
+                client.getToastManager().add(new SystemToast(SystemToast.Type.TUTORIAL_HINT, new TranslatableText("lambdacontrols.controller.disconnected", info.id()),
                         null));
             }
 
+            this.config.refreshControllers();
             this.switchControlsMode();
         });
-
-        LambdaControlsCompat.init(this);
+        this.initProfiler.run("joystick callback", () -> GLFW.glfwSetJoystickCallback((jid, event) -> {
+            if (event == GLFW.GLFW_CONNECTED)
+                ControllerMappings.onControllerConnected(client, jid);
+            ControllerRegistry.onJoystickEvent(jid, event);
+        }));
+        this.initProfiler.defer("compatibility", LambdaControlsCompat.init(this, client));
+        this.initProfiler.report();
     }
 
     /**
@@ -147,6 +168,9 @@ public class LambdaControlsClient extends LambdaControls implements ClientModIni
         this.input.tick(client);
         if (this.config.getControlsMode() == ControlsMode.CONTROLLER && (client.isWindowFocused() || this.config.hasUnfocusedInput()))
             this.input.tickController(client);
+        else if (this.poller.isRunning())
+            // The edges are only replayed when the controller input is processed, they would be stale otherwise.
+            this.poller.edges().clear();
 
         /*if (BINDING_RING.wasPressed()) {
             client.openScreen(new RingScreen());
@@ -154,6 +178,8 @@ public class LambdaControlsClient extends LambdaControls implements ClientModIni
     }
 
     public void onRender(MinecraftClient client) {
+        if (this.poller.isRunning())
+            this.poller.poll();
         this.input.onRender(client.getTickDelta(), client);
     }
 
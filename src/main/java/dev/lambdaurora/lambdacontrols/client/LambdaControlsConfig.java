@@ -9,19 +9,29 @@
 
 package dev.lambdaurora.lambdacontrols.client;
 
+import com.electronwill.nightconfig.core.Config;
 import com.electronwill.nightconfig.core.file.FileConfig;
 import dev.lambdaurora.lambdacontrols.ControlsMode;
 import dev.lambdaurora.lambdacontrols.LambdaControlsFeature;
+import dev.lambdaurora.lambdacontrols.client.controller.AxisResponse;
 import dev.lambdaurora.lambdacontrols.client.controller.ButtonBinding;
 import dev.lambdaurora.lambdacontrols.client.controller.Controller;
+import dev.lambdaurora.lambdacontrols.client.controller.DeadZoneShape;
 import dev.lambdaurora.lambdacontrols.client.controller.InputManager;
+import dev.lambdaurora.lambdacontrols.client.controller.ResponseCurve;
+import dev.lambdaurora.lambdacontrols.client.controller.StickResponse;
+import dev.lambdaurora.lambdacontrols.client.event.ControlsModeChangedCallback;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.lwjgl.glfw.GLFW;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.regex.Pattern;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import static org.lwjgl.glfw.GLFW.GLFW_GAMEPAD_AXIS_LEFT_X;
@@ -29,6 +39,9 @@ import static org.lwjgl.glfw.GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y;
 
 /**
  * Represents LambdaControls configuration.
+ * <p>
+ * The values used by the input, movement and render code are published as an immutable {@link Snapshot},
+ * rebuilt on load and on every setter call, so reading them doesn't involve the underlying file configuration.
  */
 public class LambdaControlsConfig {
     // General
@@ -51,39 +64,72 @@ public class LambdaControlsConfig {
     private static final ControllerType DEFAULT_CONTROLLER_TYPE = ControllerType.DEFAULT;
     private static final double DEFAULT_AXE_BUTTON_THRESHOLD = 0.25;
     private static final double DEFAULT_DEAD_ZONE = 0.25;
+    private static final DeadZoneShape DEFAULT_DEAD_ZONE_SHAPE = DeadZoneShape.SCALED_RADIAL;
+    private static final double DEFAULT_ANTI_DEAD_ZONE = 0.0;
     private static final double DEFAULT_MAX_VALUE = 1;
     private static final double DEFAULT_ROTATION_SPEED = 40.0;
     private static final double DEFAULT_MOUSE_SPEED = 25.0;
     private static final boolean DEFAULT_UNFOCUSED_INPUT = false;
     private static final boolean DEFAULT_VIRTUAL_MOUSE = false;
     private static final VirtualMouseSkin DEFAULT_VIRTUAL_MOUSE_SKIN = VirtualMouseSkin.DEFAULT_LIGHT;
-
-    private static final Pattern BUTTON_BINDING_PATTERN = Pattern.compile("(-?\\d+)\\+?");
+    private static final int DEFAULT_POLLING_RATE = 0;
+    private static final boolean DEFAULT_PER_FRAME_LOOK = false;
+    private static final ResponseCurve DEFAULT_STICK_RESPONSE_CURVE = ResponseCurve.QUADRATIC;
+    private static final ResponseCurve DEFAULT_TRIGGER_RESPONSE_CURVE = ResponseCurve.LINEAR;
+    private static final float[] NO_SPLINE = new float[0];
 
     protected final FileConfig config = FileConfig.builder("config/lambdacontrols.toml").concurrent().defaultResource("/config.toml").build();
     private final LambdaControlsClient mod;
+    private final ConfigSaver saver;
+    private final ConfigWatcher watcher;
+    // Whether the configuration was loaded once, the controls mode only changes after the initial load.
+    private boolean loaded = false;
+    private volatile Snapshot snapshot;
     private ControlsMode controlsMode;
+    private boolean autoSwitchMode = DEFAULT_AUTO_SWITCH_MODE;
+    private boolean debug = DEFAULT_DEBUG;
     private ControllerType controllerType;
     // Gameplay.
     private boolean analogMovement;
+    private boolean flyDrifting = DEFAULT_FLY_DRIFTING;
+    private boolean flyVerticalDrifting = DEFAULT_FLY_VERTICAL_DRIFTING;
     private boolean shouldRenderReacharoundOutline;
-    private int[] reacharoundOutlineColor;
+    private int[] reacharoundOutlineColor = DEFAULT_REACHAROUND_OUTLINE_COLOR;
     // Controller settings
+    private Object controllerId = GLFW.GLFW_JOYSTICK_1;
+    private Object secondControllerId = -1;
+    private List<Object> extraDeviceIds = List.of();
     private double axeButtonThreshold;
     private double rightDeadZone;
     private double leftDeadZone;
+    private DeadZoneShape deadZoneShape = DEFAULT_DEAD_ZONE_SHAPE;
+    private double rightAntiDeadZone = DEFAULT_ANTI_DEAD_ZONE;
+    private double leftAntiDeadZone = DEFAULT_ANTI_DEAD_ZONE;
     private double[] maxAnalogValues = new double[]{DEFAULT_MAX_VALUE, DEFAULT_MAX_VALUE, DEFAULT_MAX_VALUE, DEFAULT_MAX_VALUE};
     private double rotationSpeed;
     private double mouseSpeed;
+    private boolean invertRightXAxis;
+    private boolean invertRightYAxis;
     private boolean unfocusedInput;
     private boolean virtualMouse;
     private VirtualMouseSkin virtualMouseSkin;
+    private int pollingRate;
+    private boolean perFrameLook;
+    private final ResponseCurve[] responseCurves = new ResponseCurve[GLFW.GLFW_GAMEPAD_AXIS_LAST + 1];
+    private final float[][] responseSplines = new float[GLFW.GLFW_GAMEPAD_AXIS_LAST + 1][];
     // HUD settings.
     private boolean hudEnable;
     private HudSide hudSide;
 
     public LambdaControlsConfig(@NotNull LambdaControlsClient mod) {
         this.mod = mod;
+        this.saver = new ConfigSaver(mod, this.config);
+        this.watcher = new ConfigWatcher(mod, this.config.getNioPath(), this.config.configFormat(), this.saver);
+        for (int i = 0; i < this.responseCurves.length; i++) {
+            this.responseCurves[i] = getDefaultResponseCurve(i);
+            this.responseSplines[i] = NO_SPLINE;
+        }
+        this.publish();
     }
 
     /**
@@ -93,12 +139,25 @@ public class LambdaControlsConfig {
         this.config.load();
         this.checkAndFix();
         this.mod.log("Configuration loaded.");
+        this.readValues();
+        this.loaded = true;
+        // Controller controls.
+        InputManager.loadButtonBindings(this);
+
+        this.mod.ring.load(this.config);
+    }
+
+    private void readValues() {
         this.controlsMode = ControlsMode.byId(this.config.getOrElse("controls", DEFAULT_CONTROLS_MODE.getName())).orElse(DEFAULT_CONTROLS_MODE);
+        this.autoSwitchMode = this.config.getOrElse("auto_switch_mode", DEFAULT_AUTO_SWITCH_MODE);
+        this.debug = this.config.getOrElse("debug", DEFAULT_DEBUG);
         // HUD settings.
         this.hudEnable = this.config.getOrElse("hud.enable", DEFAULT_HUD_ENABLE);
         this.hudSide = HudSide.byId(this.config.getOrElse("hud.side", DEFAULT_HUD_SIDE.getName())).orElse(DEFAULT_HUD_SIDE);
         // Gameplay
         this.analogMovement = this.config.getOrElse("gameplay.analog_movement", DEFAULT_ANALOG_MOVEMENT);
+        this.flyDrifting = this.config.getOrElse("gameplay.fly.drifting", DEFAULT_FLY_DRIFTING);
+        this.flyVerticalDrifting = this.config.getOrElse("gameplay.fly.vertical_drifting", DEFAULT_FLY_VERTICAL_DRIFTING);
         LambdaControlsFeature.FAST_BLOCK_PLACING.setEnabled(this.config.getOrElse("gameplay.fast_block_placing", DEFAULT_FAST_BLOCK_INTERACTION));
         LambdaControlsFeature.HORIZONTAL_REACHAROUND.setEnabled(this.config.getOrElse("gameplay.reacharound.horizontal", DEFAULT_HORIZONTAL_REACHAROUND));
         LambdaControlsFeature.VERTICAL_REACHAROUND.setEnabled(this.config.getOrElse("gameplay.reacharound.vertical", DEFAULT_VERTICAL_REACHAROUND));
@@ -108,41 +167,178 @@ public class LambdaControlsConfig {
                 .orElse(DEFAULT_REACHAROUND_OUTLINE_COLOR);
         // Controller settings.
         this.controllerType = ControllerType.byId(this.config.getOrElse("controller.type", DEFAULT_CONTROLLER_TYPE.getName())).orElse(DEFAULT_CONTROLLER_TYPE);
+        this.controllerId = Objects.requireNonNullElse(this.config.getRaw("controller.id"), GLFW.GLFW_JOYSTICK_1);
+        this.secondControllerId = Objects.requireNonNullElse(this.config.getRaw("controller.id2"), -1);
+        this.extraDeviceIds = List.copyOf(this.config.<List<Object>>getOrElse("controller.extra_devices", List.of()));
         this.axeButtonThreshold = this.config.getOrElse("controller.axe_button_threshold", DEFAULT_AXE_BUTTON_THRESHOLD);
         this.rightDeadZone = this.config.getOrElse("controller.right_dead_zone", DEFAULT_DEAD_ZONE);
         this.leftDeadZone = this.config.getOrElse("controller.left_dead_zone", DEFAULT_DEAD_ZONE);
+        this.deadZoneShape = DeadZoneShape.byId(this.config.getOrElse("controller.dead_zone_shape", DEFAULT_DEAD_ZONE_SHAPE.getName()))
+                .orElse(DEFAULT_DEAD_ZONE_SHAPE);
+        this.rightAntiDeadZone = this.config.getOrElse("controller.right_anti_dead_zone", DEFAULT_ANTI_DEAD_ZONE);
+        this.leftAntiDeadZone = this.config.getOrElse("controller.left_anti_dead_zone", DEFAULT_ANTI_DEAD_ZONE);
         this.rotationSpeed = this.config.getOrElse("controller.rotation_speed", DEFAULT_ROTATION_SPEED);
         this.mouseSpeed = this.config.getOrElse("controller.mouse_speed", DEFAULT_MOUSE_SPEED);
+        this.invertRightXAxis = this.config.getOrElse("controller.invert_right_x_axis", false);
+        this.invertRightYAxis = this.config.getOrElse("controller.invert_right_y_axis", false);
         this.unfocusedInput = this.config.getOrElse("controller.unfocused_input", DEFAULT_UNFOCUSED_INPUT);
         this.virtualMouse = this.config.getOrElse("controller.virtual_mouse", DEFAULT_VIRTUAL_MOUSE);
         this.virtualMouseSkin = VirtualMouseSkin.byId(this.config.getOrElse("controller.virtual_mouse_skin", DEFAULT_VIRTUAL_MOUSE_SKIN.getName())).orElse(DEFAULT_VIRTUAL_MOUSE_SKIN);
+        this.pollingRate = this.config.getOrElse("controller.polling_rate", DEFAULT_POLLING_RATE);
+        this.mod.poller.setRate(this.pollingRate);
+        this.perFrameLook = this.config.getOrElse("controller.per_frame_look", DEFAULT_PER_FRAME_LOOK);
 
         for (int i = 0; i < this.maxAnalogValues.length; i++) {
             this.maxAnalogValues[i] = this.config.getOrElse("controller.max_value_" + i, DEFAULT_MAX_VALUE);
         }
-        // Controller controls.
-        InputManager.loadButtonBindings(this);
+        for (int i = 0; i < this.responseCurves.length; i++) {
+            var defaultCurve = getDefaultResponseCurve(i);
+            this.responseCurves[i] = ResponseCurve.byId(this.config.getOrElse("controller.response_curve_" + i, defaultCurve.getName()))
+                    .orElse(defaultCurve);
+            var points = this.config.<List<Number>>getOrElse("controller.response_spline_" + i, List.of());
+            this.responseSplines[i] = new float[points.size()];
+            for (int j = 0; j < points.size(); j++)
+                this.responseSplines[i][j] = points.get(j).floatValue();
+        }
+        this.publish();
+    }
 
-        this.mod.ring.load(this.config);
+    /**
+     * Starts watching the configuration file for changes made by other programs.
+     *
+     * @param executor the executor of the client thread
+     */
+    public void startWatching(@NotNull Executor executor) {
+        this.watcher.start(executor, this::applyExternalChanges);
+    }
+
+    /**
+     * Stops watching the configuration file.
+     */
+    public void stopWatching() {
+        this.watcher.stop();
+    }
+
+    /**
+     * Applies the values of an externally changed configuration which differ from the current ones.
+     * <p>
+     * Only the bindings whose value changed are reloaded.
+     *
+     * @param external the externally changed configuration
+     */
+    private void applyExternalChanges(@NotNull Config external) {
+        var changes = new ArrayList<List<String>>();
+        this.diff(external, new ArrayList<>(), changes);
+        if (changes.isEmpty())
+            return;
+
+        boolean values = false;
+        boolean ring = false;
+        var bindings = new ArrayList<String>();
+        for (var path : changes) {
+            this.config.set(path, external.get(path));
+            if (path.size() > 2 && path.get(0).equals("controller") && path.get(1).equals("controls"))
+                bindings.add(String.join(".", path.subList(2, path.size())));
+            else if (path.get(0).equals("ring"))
+                ring = true;
+            else
+                values = true;
+        }
+
+        if (values)
+            this.readValues();
+        for (var name : bindings)
+            InputManager.getBinding(name).ifPresent(this::loadButtonBinding);
+        if (ring)
+            this.mod.ring.load(this.config);
+        this.mod.log("Applied " + changes.size() + " external configuration changes.");
+    }
+
+    private void diff(@NotNull Config external, @NotNull List<String> parent, @NotNull List<List<String>> changes) {
+        for (var entry : external.entrySet()) {
+            var path = new ArrayList<>(parent);
+            path.add(entry.getKey());
+            Object value = entry.getValue();
+            if (value instanceof Config child && this.config.get(path) instanceof Config) {
+                this.diff(child, path, changes);
+            } else if (!value.equals(this.config.get(path))) {
+                changes.add(path);
+            }
+        }
+    }
+
+    /**
+     * Gets the current snapshot of the configuration.
+     *
+     * @return the configuration snapshot
+     */
+    public @NotNull Snapshot snapshot() {
+        return this.snapshot;
+    }
+
+    /**
+     * Resolves again the configured controllers, should be called when a controller is connected or disconnected.
+     */
+    public void refreshControllers() {
+        this.publish();
+    }
+
+    private void publish() {
+        var previous = this.snapshot;
+        var axisResponses = this.compileAxisResponses();
+        this.snapshot = new Snapshot(this.controlsMode, this.autoSwitchMode, this.debug,
+                this.hudEnable, this.hudSide,
+                this.analogMovement, this.flyDrifting, this.flyVerticalDrifting,
+                this.shouldRenderReacharoundOutline, this.reacharoundOutlineColor.clone(),
+                this.controllerType, this.resolveDevices(),
+                this.axeButtonThreshold, this.rightDeadZone, this.leftDeadZone, this.maxAnalogValues.clone(),
+                this.rotationSpeed, this.mouseSpeed, this.invertRightXAxis, this.invertRightYAxis,
+                this.unfocusedInput, this.virtualMouse, this.virtualMouseSkin, this.pollingRate,
+                this.perFrameLook, axisResponses, this.compileStickResponses(axisResponses));
+        if (this.loaded && previous.controlsMode() != this.snapshot.controlsMode())
+            ControlsModeChangedCallback.EVENT.invoker().apply(previous.controlsMode(), this.snapshot.controlsMode());
     }
 
     /**
      * Saves the configuration.
+     * <p>
+     * The file is written in the background, multiple saves in a short time are written once.
      */
     public void save() {
         this.config.set("controller.axe_button_threshold", this.axeButtonThreshold);
         this.config.set("controller.right_dead_zone", this.rightDeadZone);
         this.config.set("controller.left_dead_zone", this.leftDeadZone);
+        this.config.set("controller.dead_zone_shape", this.deadZoneShape.getName());
+        this.config.set("controller.right_anti_dead_zone", this.rightAntiDeadZone);
+        this.config.set("controller.left_anti_dead_zone", this.leftAntiDeadZone);
         this.config.set("controller.rotation_speed", this.rotationSpeed);
         this.config.set("controller.mouse_speed", this.mouseSpeed);
         this.config.set("controller.unfocused_input", this.unfocusedInput);
         this.config.set("controller.virtual_mouse", this.virtualMouse);
+        this.config.set("controller.polling_rate", this.pollingRate);
+        this.config.set("controller.per_frame_look", this.perFrameLook);
 
         for (int i = 0; i < this.maxAnalogValues.length; i++) {
             this.config.set("controller.max_value_" + i, this.maxAnalogValues[i]);
         }
-        this.config.save();
-        this.mod.log("Configuration saved.");
+        for (int i = 0; i < this.responseCurves.length; i++) {
+            this.config.set("controller.response_curve_" + i, this.responseCurves[i].getName());
+            var points = new ArrayList<Double>(this.responseSplines[i].length);
+            for (float point : this.responseSplines[i])
+                points.add((double) point);
+            if (points.isEmpty())
+                this.config.remove("controller.response_spline_" + i);
+            else
+                this.config.set("controller.response_spline_" + i, points);
+        }
+        this.saver.requestSave();
+    }
+
+    /**
+     * Writes the pending configuration changes to the file and waits for the write to finish.
+     */
+    public void flush() {
+        this.saver.flush();
     }
 
     public void checkAndFix() {
@@ -204,13 +400,23 @@ public class LambdaControlsConfig {
         this.setAxeButtonThreshold(DEFAULT_AXE_BUTTON_THRESHOLD);
         this.setRightDeadZone(DEFAULT_DEAD_ZONE);
         this.setLeftDeadZone(DEFAULT_DEAD_ZONE);
+        this.setDeadZoneShape(DEFAULT_DEAD_ZONE_SHAPE);
+        this.setRightAntiDeadZone(DEFAULT_ANTI_DEAD_ZONE);
+        this.setLeftAntiDeadZone(DEFAULT_ANTI_DEAD_ZONE);
         this.setRotationSpeed(DEFAULT_ROTATION_SPEED);
         this.setMouseSpeed(DEFAULT_MOUSE_SPEED);
         this.setUnfocusedInput(DEFAULT_UNFOCUSED_INPUT);
         this.setVirtualMouse(DEFAULT_VIRTUAL_MOUSE);
         this.setVirtualMouseSkin(DEFAULT_VIRTUAL_MOUSE_SKIN);
+        this.setPollingRate(DEFAULT_POLLING_RATE);
+        this.setPerFrameLook(DEFAULT_PER_FRAME_LOOK);
 
         Arrays.fill(this.maxAnalogValues, DEFAULT_MAX_VALUE);
+        for (int i = 0; i < this.responseCurves.length; i++) {
+            this.responseCurves[i] = getDefaultResponseCurve(i);
+            this.responseSplines[i] = NO_SPLINE;
+        }
+        this.publish();
         // HUD
         this.setHudEnabled(DEFAULT_HUD_ENABLE);
         this.setHudSide(DEFAULT_HUD_SIDE);
@@ -225,7 +431,7 @@ public class LambdaControlsConfig {
      * @return the controls mode
      */
     public @NotNull ControlsMode getControlsMode() {
-        return this.controlsMode;
+        return this.snapshot.controlsMode();
     }
 
     /**
@@ -236,6 +442,7 @@ public class LambdaControlsConfig {
     public void setControlsMode(@NotNull ControlsMode controlsMode) {
         this.controlsMode = controlsMode;
         this.config.set("controls", controlsMode.getName());
+        this.publish();
     }
 
     /**
@@ -244,7 +451,7 @@ public class LambdaControlsConfig {
      * @return true if the auto switch mode is enabled, else false
      */
     public boolean hasAutoSwitchMode() {
-        return this.config.getOrElse("auto_switch_mode", DEFAULT_AUTO_SWITCH_MODE);
+        return this.snapshot.autoSwitchMode();
     }
 
     /**
@@ -253,7 +460,9 @@ public class LambdaControlsConfig {
      * @param autoSwitchMode true if the auto switch mode is enabled, else false
      */
     public void setAutoSwitchMode(boolean autoSwitchMode) {
+        this.autoSwitchMode = autoSwitchMode;
         this.config.set("auto_switch_mode", autoSwitchMode);
+        this.publish();
     }
 
     /**
@@ -262,7 +471,7 @@ public class LambdaControlsConfig {
      * @return true if debug is enabled, else false
      */
     public boolean hasDebug() {
-        return this.config.getOrElse("debug", DEFAULT_DEBUG);
+        return this.snapshot.debug();
     }
 
     /**
@@ -271,7 +480,9 @@ public class LambdaControlsConfig {
      * @param debug true if debug is enabled, else false
      */
     protected void setDebug(boolean debug) {
+        this.debug = debug;
         this.config.set("debug", debug);
+        this.publish();
     }
 
     /*
@@ -284,7 +495,7 @@ public class LambdaControlsConfig {
      * @return true if the HUD is enabled, else false
      */
     public boolean isHudEnabled() {
-        return this.hudEnable;
+        return this.snapshot.hudEnabled();
     }
 
     /**
@@ -295,6 +506,7 @@ public class LambdaControlsConfig {
     public void setHudEnabled(boolean enable) {
         this.hudEnable = enable;
         this.config.set("hud.enable", this.hudEnable);
+        this.publish();
     }
 
     /**
@@ -303,7 +515,7 @@ public class LambdaControlsConfig {
      * @return the HUD side
      */
     public @NotNull HudSide getHudSide() {
-        return this.hudSide;
+        return this.snapshot.hudSide();
     }
 
     /**
@@ -314,6 +526,7 @@ public class LambdaControlsConfig {
     public void setHudSide(@NotNull HudSide hudSide) {
         this.hudSide = hudSide;
         this.config.set("hud.side", hudSide.getName());
+        this.publish();
     }
 
     /*
@@ -326,7 +539,7 @@ public class LambdaControlsConfig {
      * @return {@code true} if analog movement is enabled, else {@code false}
      */
     public boolean hasAnalogMovement() {
-        return this.analogMovement;
+        return this.snapshot.analogMovement();
     }
 
     /**
@@ -336,6 +549,7 @@ public class LambdaControlsConfig {
      */
     public void setAnalogMovement(boolean analogMovement) {
         this.config.set("gameplay.analog_movement", this.analogMovement = analogMovement);
+        this.publish();
     }
 
     /**
@@ -355,6 +569,7 @@ public class LambdaControlsConfig {
     public void setFastBlockPlacing(boolean enable) {
         LambdaControlsFeature.FAST_BLOCK_PLACING.setEnabled(enable);
         this.config.set("gameplay.fast_block_placing", enable);
+        this.publish();
     }
 
     /**
@@ -363,7 +578,7 @@ public class LambdaControlsConfig {
      * @return true if fly drifting is enabled, else false
      */
     public boolean hasFlyDrifting() {
-        return this.config.getOrElse("gameplay.fly.drifting", DEFAULT_FLY_DRIFTING);
+        return this.snapshot.flyDrifting();
     }
 
     /**
@@ -372,7 +587,8 @@ public class LambdaControlsConfig {
      * @param flyDrifting true if fly drifting is enabled, else false
      */
     public void setFlyDrifting(boolean flyDrifting) {
-        this.config.set("gameplay.fly.drifting", flyDrifting);
+        this.config.set("gameplay.fly.drifting", this.flyDrifting = flyDrifting);
+        this.publish();
     }
 
     /**
@@ -381,7 +597,7 @@ public class LambdaControlsConfig {
      * @return true if vertical fly drifting is enabled, else false
      */
     public boolean hasFlyVerticalDrifting() {
-        return this.config.getOrElse("gameplay.fly.vertical_drifting", DEFAULT_FLY_VERTICAL_DRIFTING);
+        return this.snapshot.flyVerticalDrifting();
     }
 
     /**
@@ -390,7 +606,8 @@ public class LambdaControlsConfig {
      * @param flyDrifting true if vertical fly drifting is enabled, else false
      */
     public void setFlyVerticalDrifting(boolean flyDrifting) {
-        this.config.set("gameplay.fly.vertical_drifting", flyDrifting);
+        this.config.set("gameplay.fly.vertical_drifting", this.flyVerticalDrifting = flyDrifting);
+        this.publish();
     }
 
     /**
@@ -410,6 +627,7 @@ public class LambdaControlsConfig {
     public void setFrontBlockPlacing(boolean enable) {
         LambdaControlsFeature.HORIZONTAL_REACHAROUND.setEnabled(enable);
         this.config.set("gameplay.reacharound.horizontal", enable);
+        this.publish();
     }
 
     /**
@@ -429,6 +647,7 @@ public class LambdaControlsConfig {
     public void setVerticalReacharound(boolean enable) {
         LambdaControlsFeature.VERTICAL_REACHAROUND.setEnabled(enable);
         this.config.set("gameplay.reacharound.vertical", enable);
+        this.publish();
     }
 
     /**
@@ -437,7 +656,7 @@ public class LambdaControlsConfig {
      * @return true if front block placing outline is enabled, else false
      */
     public boolean shouldRenderReacharoundOutline() {
-        return this.shouldRenderReacharoundOutline;
+        return this.snapshot.renderReacharoundOutline();
     }
 
     /**
@@ -447,6 +666,7 @@ public class LambdaControlsConfig {
      */
     public void setRenderReacharoundOutline(boolean render) {
         this.config.set("gameplay.reacharound.outline", this.shouldRenderReacharoundOutline = render);
+        this.publish();
     }
 
     /**
@@ -457,7 +677,7 @@ public class LambdaControlsConfig {
      * @return the color as a RGBA integer array
      */
     public int[] getReacharoundOutlineColor() {
-        return this.reacharoundOutlineColor;
+        return this.snapshot.reacharoundOutlineColor();
     }
 
     /*
@@ -470,9 +690,12 @@ public class LambdaControlsConfig {
      * @return the controller
      */
     public Controller getController() {
-        var raw = this.config.getRaw("controller.id");
+        return this.snapshot.devices()[0];
+    }
+
+    private static Controller resolveController(Object raw) {
         if (raw instanceof Number) {
-            return Controller.byId((Integer) raw);
+            return Controller.byId(((Number) raw).intValue());
         } else if (raw instanceof String) {
             return Controller.byGuid((String) raw).orElse(Controller.byId(GLFW.GLFW_JOYSTICK_1));
         }
@@ -485,7 +708,8 @@ public class LambdaControlsConfig {
      * @param controller the controller
      */
     public void setController(Controller controller) {
-        this.config.set("controller.id", controller.id());
+        this.config.set("controller.id", this.controllerId = controller.id());
+        this.publish();
     }
 
     /**
@@ -494,24 +718,49 @@ public class LambdaControlsConfig {
      * @return the second controller
      */
     public Optional<Controller> getSecondController() {
-        var raw = this.config.getRaw("controller.id2");
+        return Optional.ofNullable(this.snapshot.devices()[1]);
+    }
+
+    private static Optional<Controller> resolveSecondController(Object raw) {
         if (raw instanceof Number) {
-            if ((int) raw == -1)
+            if (((Number) raw).intValue() == -1)
                 return Optional.empty();
-            return Optional.of(Controller.byId((Integer) raw));
+            return Optional.of(Controller.byId(((Number) raw).intValue()));
         } else if (raw instanceof String) {
-            return Optional.of(Controller.byGuid((String) raw).orElse(Controller.byId(GLFW.GLFW_JOYSTICK_1)));
+            // An unplugged device is left unbound, falling back to the first joystick would alias the used controller.
+            return Controller.byGuid((String) raw);
         }
         return Optional.empty();
     }
 
+    /**
+     * Gets the bound devices, the first device is the used controller and the second one is the second controller.
+     * <p>
+     * The returned array must not be modified.
+     *
+     * @return the devices indexed by device index, {@code null} if no controller is bound to a device index
+     */
+    public Controller[] getDevices() {
+        return this.snapshot.devices();
+    }
+
+    private Controller[] resolveDevices() {
+        var devices = new Controller[Math.min(2 + this.extraDeviceIds.size(), ButtonBinding.MAX_DEVICES)];
+        devices[0] = resolveController(this.controllerId);
+        devices[1] = resolveSecondController(this.secondControllerId).orElse(null);
+        for (int i = 2; i < devices.length; i++)
+            devices[i] = resolveSecondController(this.extraDeviceIds.get(i - 2)).orElse(null);
+        return devices;
+    }
+
     /**
      * Sets the second controller.
      *
      * @param controller the second controller
      */
     public void setSecondController(@Nullable Controller controller) {
-        this.config.set("controller.id2", controller == null ? -1 : controller.id());
+        this.config.set("controller.id2", this.secondControllerId = controller == null ? -1 : controller.id());
+        this.publish();
     }
 
     /**
@@ -520,7 +769,7 @@ public class LambdaControlsConfig {
      * @return the controller's type
      */
     public @NotNull ControllerType getControllerType() {
-        return this.controllerType;
+        return this.snapshot.controllerType();
     }
 
     /**
@@ -531,15 +780,16 @@ public class LambdaControlsConfig {
     public void setControllerType(@NotNull ControllerType controllerType) {
         this.controllerType = controllerType;
         this.config.set("controller.type", controllerType.getName());
+        this.publish();
     }
 
     /**
-     * Gets the controller's axe button threshold (the point where an axis is considered actuated enough to be labelled "pressed")
+     * Gets the controller's axe button threshold (the point where a trigger is considered actuated enough to be labelled "pressed")
      *
      * @return the controller's axe button threshold
      */
     public double getAxeButtonThreshold () {
-        return this.axeButtonThreshold;
+        return this.snapshot.axeButtonThreshold();
     }
 
     /**
@@ -556,7 +806,7 @@ public class LambdaControlsConfig {
      * @return the controller's right dead zone value
      */
     public double getRightDeadZone() {
-        return this.rightDeadZone;
+        return this.snapshot.rightDeadZone();
     }
 
     /**
@@ -566,6 +816,7 @@ public class LambdaControlsConfig {
      */
     public void setRightDeadZone(double deadZone) {
         this.rightDeadZone = deadZone;
+        this.publish();
     }
 
     /**
@@ -574,7 +825,7 @@ public class LambdaControlsConfig {
      * @return the controller's left dead zone value
      */
     public double getLeftDeadZone() {
-        return this.leftDeadZone;
+        return this.snapshot.leftDeadZone();
     }
 
     /**
@@ -584,6 +835,64 @@ public class LambdaControlsConfig {
      */
     public void setLeftDeadZone(double deadZone) {
         this.leftDeadZone = deadZone;
+        this.publish();
+    }
+
+    /**
+     * Gets the shape of the dead zones of the sticks.
+     *
+     * @return the dead zone shape
+     */
+    public @NotNull DeadZoneShape getDeadZoneShape() {
+        return this.deadZoneShape;
+    }
+
+    /**
+     * Sets the shape of the dead zones of the sticks.
+     *
+     * @param shape the dead zone shape
+     */
+    public void setDeadZoneShape(@NotNull DeadZoneShape shape) {
+        this.deadZoneShape = shape;
+        this.publish();
+    }
+
+    /**
+     * Gets the controller's right anti-dead zone.
+     *
+     * @return the response the right stick starts at when leaving the dead zone
+     */
+    public double getRightAntiDeadZone() {
+        return this.rightAntiDeadZone;
+    }
+
+    /**
+     * Sets the controller's right anti-dead zone.
+     *
+     * @param antiDeadZone the response the right stick starts at when leaving the dead zone
+     */
+    public void setRightAntiDeadZone(double antiDeadZone) {
+        this.rightAntiDeadZone = Math.max(0.0, Math.min(antiDeadZone, 1.0));
+        this.publish();
+    }
+
+    /**
+     * Gets the controller's left anti-dead zone.
+     *
+     * @return the response the left stick starts at when leaving the dead zone
+     */
+    public double getLeftAntiDeadZone() {
+        return this.leftAntiDeadZone;
+    }
+
+    /**
+     * Sets the controller's left anti-dead zone.
+     *
+     * @param antiDeadZone the response the left stick starts at when leaving the dead zone
+     */
+    public void setLeftAntiDeadZone(double antiDeadZone) {
+        this.leftAntiDeadZone = Math.max(0.0, Math.min(antiDeadZone, 1.0));
+        this.publish();
     }
 
     /**
@@ -592,7 +901,7 @@ public class LambdaControlsConfig {
      * @return the rotation speed
      */
     public double getRotationSpeed() {
-        return this.rotationSpeed;
+        return this.snapshot.rotationSpeed();
     }
 
     /**
@@ -602,6 +911,7 @@ public class LambdaControlsConfig {
      */
     public void setRotationSpeed(double rotationSpeed) {
         this.rotationSpeed = rotationSpeed;
+        this.publish();
     }
 
     /**
@@ -610,7 +920,7 @@ public class LambdaControlsConfig {
      * @return the mouse speed
      */
     public double getMouseSpeed() {
-        return this.mouseSpeed;
+        return this.snapshot.mouseSpeed();
     }
 
     /**
@@ -620,6 +930,7 @@ public class LambdaControlsConfig {
      */
     public void setMouseSpeed(double mouseSpeed) {
         this.mouseSpeed = mouseSpeed;
+        this.publish();
     }
 
     /**
@@ -628,7 +939,7 @@ public class LambdaControlsConfig {
      * @return true if the right X axis is inverted, else false
      */
     public boolean doesInvertRightXAxis() {
-        return this.config.getOrElse("controller.invert_right_x_axis", false);
+        return this.snapshot.invertRightXAxis();
     }
 
     /**
@@ -637,7 +948,8 @@ public class LambdaControlsConfig {
      * @param invert true if the right X axis is inverted, else false
      */
     public void setInvertRightXAxis(boolean invert) {
-        this.config.set("controller.invert_right_x_axis", invert);
+        this.config.set("controller.invert_right_x_axis", this.invertRightXAxis = invert);
+        this.publish();
     }
 
     /**
@@ -646,7 +958,7 @@ public class LambdaControlsConfig {
      * @return true if the right Y axis is inverted, else false
      */
     public boolean doesInvertRightYAxis() {
-        return this.config.getOrElse("controller.invert_right_y_axis", false);
+        return this.snapshot.invertRightYAxis();
     }
 
     /**
@@ -655,7 +967,8 @@ public class LambdaControlsConfig {
      * @param invert true if the right Y axis is inverted, else false
      */
     public void setInvertRightYAxis(boolean invert) {
-        this.config.set("controller.invert_right_y_axis", invert);
+        this.config.set("controller.invert_right_y_axis", this.invertRightYAxis = invert);
+        this.publish();
     }
 
     /**
@@ -664,7 +977,7 @@ public class LambdaControlsConfig {
      * @return true if unfocused controller input is allowed, else false
      */
     public boolean hasUnfocusedInput() {
-        return this.unfocusedInput;
+        return this.snapshot.unfocusedInput();
     }
 
     /**
@@ -674,6 +987,7 @@ public class LambdaControlsConfig {
      */
     public void setUnfocusedInput(boolean unfocusedInput) {
         this.unfocusedInput = unfocusedInput;
+        this.publish();
     }
 
     /**
@@ -682,7 +996,7 @@ public class LambdaControlsConfig {
      * @return true if the mouse is virtual, else false
      */
     public boolean hasVirtualMouse() {
-        return this.virtualMouse;
+        return this.snapshot.virtualMouse();
     }
 
     /**
@@ -692,6 +1006,7 @@ public class LambdaControlsConfig {
      */
     public void setVirtualMouse(boolean virtualMouse) {
         this.virtualMouse = virtualMouse;
+        this.publish();
     }
 
     /**
@@ -700,7 +1015,7 @@ public class LambdaControlsConfig {
      * @return the virtual mouse skin
      */
     public VirtualMouseSkin getVirtualMouseSkin() {
-        return this.virtualMouseSkin;
+        return this.snapshot.virtualMouseSkin();
     }
 
     /**
@@ -711,6 +1026,46 @@ public class LambdaControlsConfig {
     public void setVirtualMouseSkin(VirtualMouseSkin skin) {
         this.virtualMouseSkin = skin;
         this.config.set("controller.virtual_mouse_skin", skin.getName());
+        this.publish();
+    }
+
+    /**
+     * Gets the controller polling rate.
+     *
+     * @return the polling rate in hertz, {@code 0} if controllers are sampled every tick
+     */
+    public int getPollingRate() {
+        return this.snapshot.pollingRate();
+    }
+
+    /**
+     * Sets the controller polling rate.
+     *
+     * @param pollingRate the polling rate in hertz, {@code 0} to sample controllers every tick
+     */
+    public void setPollingRate(int pollingRate) {
+        this.pollingRate = Math.max(0, pollingRate);
+        this.mod.poller.setRate(this.pollingRate);
+        this.publish();
+    }
+
+    /**
+     * Returns whether the camera look of the right stick is sampled every frame or not.
+     *
+     * @return true if the look is sampled every frame, else false if it is sampled every tick
+     */
+    public boolean hasPerFrameLook() {
+        return this.snapshot.perFrameLook();
+    }
+
+    /**
+     * Sets whether the camera look of the right stick is sampled every frame or not.
+     *
+     * @param perFrameLook true if the look is sampled every frame, else false if it is sampled every tick
+     */
+    public void setPerFrameLook(boolean perFrameLook) {
+        this.perFrameLook = perFrameLook;
+        this.publish();
     }
 
     /**
@@ -719,7 +1074,7 @@ public class LambdaControlsConfig {
      * @return the right X axis sign
      */
     public double getRightXAxisSign() {
-        return this.doesInvertRightXAxis() ? -1.0 : 1.0;
+        return this.snapshot.rightXAxisSign();
     }
 
     /**
@@ -728,18 +1083,79 @@ public class LambdaControlsConfig {
      * @return the right Y axis sign
      */
     public double getRightYAxisSign() {
-        return this.doesInvertRightYAxis() ? -1.0 : 1.0;
+        return this.snapshot.rightYAxisSign();
     }
 
     public double getAxisMaxValue(int axis) {
-        if (axis >= this.maxAnalogValues.length)
-            return DEFAULT_MAX_VALUE;
-        return this.maxAnalogValues[axis];
+        return this.snapshot.getAxisMaxValue(axis);
     }
 
     public void setAxisMaxValue(int axis, double value) {
         if (axis < this.maxAnalogValues.length)
             this.maxAnalogValues[axis] = value;
+        this.publish();
+    }
+
+    /**
+     * Returns the compiled response of the specified axis.
+     *
+     * @param axis the local axis
+     * @return the response of the axis
+     */
+    public @NotNull AxisResponse getAxisResponse(int axis) {
+        return this.snapshot.getAxisResponse(axis);
+    }
+
+    /**
+     * Gets the response curve of the specified axis.
+     *
+     * @param axis the local axis
+     * @return the response curve
+     */
+    public @NotNull ResponseCurve getResponseCurve(int axis) {
+        return this.responseCurves[axis];
+    }
+
+    /**
+     * Sets the response curve of the specified axis.
+     *
+     * @param axis the local axis
+     * @param curve the response curve
+     * @param points the responses of evenly spaced magnitudes from {@code 0} to {@code 1}, only used by {@link ResponseCurve#SPLINE}
+     */
+    public void setResponseCurve(int axis, @NotNull ResponseCurve curve, @NotNull float[] points) {
+        this.responseCurves[axis] = curve;
+        this.responseSplines[axis] = points.clone();
+        this.publish();
+    }
+
+    private static @NotNull ResponseCurve getDefaultResponseCurve(int axis) {
+        return axis == GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER || axis == GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER
+                ? DEFAULT_TRIGGER_RESPONSE_CURVE : DEFAULT_STICK_RESPONSE_CURVE;
+    }
+
+    private @NotNull AxisResponse[] compileAxisResponses() {
+        var responses = new AxisResponse[this.responseCurves.length];
+        for (int axis = 0; axis < responses.length; axis++) {
+            double deadZone = axis == GLFW_GAMEPAD_AXIS_LEFT_X || axis == GLFW_GAMEPAD_AXIS_LEFT_Y ? this.leftDeadZone : this.rightDeadZone;
+            double maxValue = axis < this.maxAnalogValues.length ? this.maxAnalogValues[axis] : DEFAULT_MAX_VALUE;
+            responses[axis] = AxisResponse.compile(this.responseCurves[axis], this.responseSplines[axis], deadZone, maxValue);
+        }
+        return responses;
+    }
+
+    private @NotNull StickResponse[] compileStickResponses(@NotNull AxisResponse[] axisResponses) {
+        var responses = new StickResponse[StickResponse.STICK_COUNT];
+        for (int stick = 0; stick < responses.length; stick++) {
+            int xAxis = stick == StickResponse.LEFT_STICK ? GLFW.GLFW_GAMEPAD_AXIS_LEFT_X : GLFW.GLFW_GAMEPAD_AXIS_RIGHT_X;
+            int yAxis = stick == StickResponse.LEFT_STICK ? GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y : GLFW.GLFW_GAMEPAD_AXIS_RIGHT_Y;
+            double deadZone = stick == StickResponse.LEFT_STICK ? this.leftDeadZone : this.rightDeadZone;
+            double antiDeadZone = stick == StickResponse.LEFT_STICK ? this.leftAntiDeadZone : this.rightAntiDeadZone;
+            responses[stick] = StickResponse.compile(this.deadZoneShape, axisResponses[xAxis], axisResponses[yAxis],
+                    this.responseCurves[xAxis], this.responseSplines[xAxis], deadZone, antiDeadZone,
+                    this.maxAnalogValues[xAxis], this.maxAnalogValues[yAxis]);
+        }
+        return responses;
     }
 
     /**
@@ -748,42 +1164,129 @@ public class LambdaControlsConfig {
      * @param button the button binding
      */
     public void loadButtonBinding(@NotNull ButtonBinding button) {
-        button.setButton(button.getDefaultButton());
-        var code = this.config.getOrElse("controller.controls." + button.getName(), button.getButtonCode());
-
-        var matcher = BUTTON_BINDING_PATTERN.matcher(code);
+        var errors = new ArrayList<BindingError>();
+        var buttons = this.readButtonBinding(this.config.get("controller.controls"), button, errors);
+        if (!Arrays.equals(button.getButton(), buttons))
+            button.setButton(buttons);
+        this.reportBindingErrors(errors);
+    }
 
-        try {
-            var buttons = new int[1];
-            int count = 0;
-            while (matcher.find()) {
-                count++;
-                if (count > buttons.length)
-                    buttons = Arrays.copyOf(buttons, count);
-                String current;
-                if (!this.checkValidity(button, code, current = matcher.group(1)))
-                    return;
-                buttons[count - 1] = Integer.parseInt(current);
-            }
-            if (count == 0) {
-                this.mod.warn("Malformed config value \"" + code + "\" for binding \"" + button.getName() + "\".");
-                this.setButtonBinding(button, new int[]{-1});
-            }
+    /**
+     * Reads the buttons of the specified bindings from the configuration.
+     * <p>
+     * The controls table is only looked up once, malformed values are reported together and reset to the default buttons.
+     *
+     * @param bindings the bindings to read
+     * @return the buttons of each binding, in the same order as the bindings
+     */
+    public int[][] readButtonBindings(@NotNull List<ButtonBinding> bindings) {
+        Config controls = this.config.get("controller.controls");
+        var errors = new ArrayList<BindingError>();
+        var buttons = new int[bindings.size()][];
+        for (int i = 0; i < buttons.length; i++)
+            buttons[i] = this.readButtonBinding(controls, bindings.get(i), errors);
+        this.reportBindingErrors(errors);
+        return buttons;
+    }
+
+    private int[] readButtonBinding(@Nullable Config controls, @NotNull ButtonBinding binding, @NotNull List<BindingError> errors) {
+        Object raw = controls == null ? null : controls.get(binding.getName());
+        if (raw == null)
+            return binding.getDefaultButton();
+        if (raw instanceof Number number)
+            return new int[]{number.intValue()};
+
+        var code = String.valueOf(raw);
+        var buttons = parseButtonCode(code, reason -> errors.add(new BindingError(binding, code, reason)));
+        if (buttons == null) {
+            this.config.set("controller.controls." + binding.getName(), ButtonBinding.toButtonCode(binding.getDefaultButton()));
+            return binding.getDefaultButton();
+        }
+        return buttons;
+    }
 
-            button.setButton(buttons);
-        } catch (Exception e) {
-            this.mod.warn("Malformed config value \"" + code + "\" for binding \"" + button.getName() + "\".");
-            this.config.set("controller.controls." + button.getName(), button.getButtonCode());
+    private void reportBindingErrors(@NotNull List<BindingError> errors) {
+        for (var error : errors) {
+            this.mod.warn("Malformed config value \"" + error.value() + "\" for binding \"" + error.binding().getName() + "\": "
+                    + error.reason() + ", resetting to default.");
         }
     }
 
-    private boolean checkValidity(@NotNull ButtonBinding binding, @NotNull String input, String group) {
-        if (group == null) {
-            this.mod.warn("Malformed config value \"" + input + "\" for binding \"" + binding.getName() + "\".");
-            this.config.set("controller.controls." + binding.getName(), binding.getButtonCode());
-            return false;
+    /**
+     * Parses a button code, which are button identifiers joined by {@code +}.
+     * <p>
+     * Buttons of other devices than the first one are prefixed by the device index and {@code :}.
+     * Second controller buttons written before device indices, offset by 500, are converted.
+     *
+     * @param code the button code
+     * @param onError the consumer of the error reason if the code is malformed
+     * @return the buttons, or {@code null} if the code is malformed
+     */
+    static int[] parseButtonCode(@NotNull String code, @NotNull Consumer<String> onError) {
+        int length = code.length();
+        if (length == 0) {
+            onError.accept("empty button code");
+            return null;
+        }
+
+        int count = 1;
+        for (int i = 0; i < length; i++) {
+            if (code.charAt(i) == '+')
+                count++;
+        }
+
+        var buttons = new int[count];
+        int index = 0;
+        int i = 0;
+        while (true) {
+            int device = -1;
+            boolean negative = i < length && code.charAt(i) == '-';
+            if (negative)
+                i++;
+            int start = i;
+            long value = 0;
+            while (true) {
+                while (i < length && code.charAt(i) >= '0' && code.charAt(i) <= '9') {
+                    value = value * 10 + (code.charAt(i) - '0');
+                    if (value > Integer.MAX_VALUE) {
+                        onError.accept("button out of range at index " + start);
+                        return null;
+                    }
+                    i++;
+                }
+                if (i == start) {
+                    onError.accept("expected a button at index " + i);
+                    return null;
+                }
+                if (device != -1 || negative || i == length || code.charAt(i) != ':')
+                    break;
+                if (value >= ButtonBinding.MAX_DEVICES) {
+                    onError.accept("device out of range at index " + start);
+                    return null;
+                }
+                device = (int) value;
+                value = 0;
+                start = ++i;
+            }
+            if (value - (device == -1 && value >= 500 ? 500 : 0) > ButtonBinding.LOCAL_BUTTON_MASK) {
+                onError.accept("button out of range at index " + start);
+                return null;
+            }
+            if (negative)
+                buttons[index++] = (int) -value;
+            else if (device == -1)
+                buttons[index++] = ButtonBinding.fromLegacyButton((int) value);
+            else
+                buttons[index++] = ButtonBinding.deviceButton(device, (int) value);
+
+            if (i == length)
+                return buttons;
+            if (code.charAt(i) != '+') {
+                onError.accept("unexpected character '" + code.charAt(i) + "' at index " + i);
+                return null;
+            }
+            i++;
         }
-        return true;
     }
 
     /**
@@ -855,4 +1358,73 @@ public class LambdaControlsConfig {
             default -> null;
         };
     }
+
+    /**
+     * Represents an immutable snapshot of the configuration values.
+     * <p>
+     * The arrays of the snapshot must not be modified.
+     */
+    public record Snapshot(ControlsMode controlsMode, boolean autoSwitchMode, boolean debug,
+                           boolean hudEnabled, HudSide hudSide,
+                           boolean analogMovement, boolean flyDrifting, boolean flyVerticalDrifting,
+                           boolean renderReacharoundOutline, int[] reacharoundOutlineColor,
+                           ControllerType controllerType, Controller[] devices,
+                           double axeButtonThreshold, double rightDeadZone, double leftDeadZone, double[] maxAnalogValues,
+                           double rotationSpeed, double mouseSpeed, boolean invertRightXAxis, boolean invertRightYAxis,
+                           boolean unfocusedInput, boolean virtualMouse, VirtualMouseSkin virtualMouseSkin, int pollingRate,
+                           boolean perFrameLook, AxisResponse[] axisResponses, StickResponse[] stickResponses) {
+        /**
+         * Gets the right X axis sign.
+         *
+         * @return the right X axis sign
+         */
+        public double rightXAxisSign() {
+            return this.invertRightXAxis ? -1.0 : 1.0;
+        }
+
+        /**
+         * Gets the right Y axis sign.
+         *
+         * @return the right Y axis sign
+         */
+        public double rightYAxisSign() {
+            return this.invertRightYAxis ? -1.0 : 1.0;
+        }
+
+        public double getAxisMaxValue(int axis) {
+            if (axis >= this.maxAnalogValues.length)
+                return DEFAULT_MAX_VALUE;
+            return this.maxAnalogValues[axis];
+        }
+
+        /**
+         * Returns the compiled response of the specified axis.
+         *
+         * @param axis the local axis
+         * @return the response of the axis
+         */
+        public @NotNull AxisResponse getAxisResponse(int axis) {
+            return this.axisResponses[axis];
+        }
+
+        /**
+         * Returns the compiled response of the specified stick.
+         *
+         * @param stick the stick
+         * @return the response of the stick
+         */
+        public @NotNull StickResponse getStickResponse(int stick) {
+            return this.stickResponses[stick];
+        }
+    }
+
+    /**
+     * Represents an error in the value of a button binding.
+     *
+     * @param binding the binding
+     * @param value the malformed value
+     * @param reason the reason of the error
+     */
+    public record BindingError(@NotNull ButtonBinding binding, @NotNull String value, @NotNull String reason) {
+    }
 }
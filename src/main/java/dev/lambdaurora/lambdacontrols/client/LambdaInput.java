@@ -10,10 +10,15 @@
 package dev.lambdaurora.lambdacontrols.client;
 
 import com.google.common.collect.ImmutableSet;
+import dev.lambdaurora.lambdacontrols.ControlsMode;
 import dev.lambdaurora.lambdacontrols.client.compat.LambdaControlsCompat;
 import dev.lambdaurora.lambdacontrols.client.controller.ButtonBinding;
+import dev.lambdaurora.lambdacontrols.client.controller.ButtonCooldowns;
 import dev.lambdaurora.lambdacontrols.client.controller.Controller;
+import dev.lambdaurora.lambdacontrols.client.controller.ControllerPoller;
+import dev.lambdaurora.lambdacontrols.client.controller.InputContext;
 import dev.lambdaurora.lambdacontrols.client.controller.InputManager;
+import dev.lambdaurora.lambdacontrols.client.controller.StickResponse;
 import dev.lambdaurora.lambdacontrols.client.gui.TouchscreenOverlay;
 import dev.lambdaurora.lambdacontrols.client.gui.widget.ControllerControlsWidget;
 import dev.lambdaurora.lambdacontrols.client.mixin.AdvancementsScreenAccessor;
@@ -37,12 +42,12 @@ import net.minecraft.client.gui.screen.ingame.CreativeInventoryScreen;
 import net.minecraft.client.gui.screen.ingame.HandledScreen;
 import net.minecraft.client.gui.screen.multiplayer.MultiplayerScreen;
 import net.minecraft.client.gui.screen.multiplayer.MultiplayerServerListWidget;
-import net.minecraft.client.gui.screen.pack.PackScreen;
 import net.minecraft.client.gui.screen.world.WorldListWidget;
 import net.minecraft.client.gui.widget.AlwaysSelectedEntryListWidget;
 import net.minecraft.client.gui.widget.EntryListWidget;
 import net.minecraft.client.gui.widget.PressableWidget;
 import net.minecraft.client.gui.widget.SliderWidget;
+import net.minecraft.client.network.ClientPlayerEntity;
 import net.minecraft.screen.slot.Slot;
 import net.minecraft.screen.slot.SlotActionType;
 import net.minecraft.text.TranslatableText;
@@ -54,8 +59,6 @@ import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWGamepadState;
 
 import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import static dev.lambdaurora.lambdacontrols.client.controller.ButtonBinding.axisAsButton;
@@ -70,8 +73,28 @@ import static org.lwjgl.glfw.GLFW.*;
  * @since 1.0.0
  */
 public class LambdaInput {
-    private static final Map<Integer, Integer> BUTTON_COOLDOWNS = new HashMap<>();
+    private static final ButtonCooldowns BUTTON_COOLDOWNS = new ButtonCooldowns(InputManager.STATE_TABLE.size());
+    // The tick look targets turn by target / 0.10 degrees per tick, at 20 ticks per second.
+    private static final double LOOK_TARGET_TO_DEGREES_PER_SECOND = 20.0 / 0.10;
+    // Longer frames, such as after a freeze, are not integrated as a whole.
+    private static final double MAX_LOOK_FRAME_SECONDS = 0.1;
+    private static final long NO_LOOK_FRAME = Long.MIN_VALUE;
+    // The look key bindings act like a stick held at 0.8 with the quadratic stick response.
+    private static final float KEYBOARD_LOOK_RESPONSE = 0.8F * 0.8F;
+    // The stick axes are pressed at half of their processed deflection, the axis button threshold only applies to the triggers.
+    private static final float STICK_PRESS_THRESHOLD = 0.5F;
     private final LambdaControlsConfig config;
+    private final ControllerPoller poller;
+    private final GLFWGamepadState[] polledStates = new GLFWGamepadState[ButtonBinding.MAX_DEVICES];
+    // The state of each device sampled during the current tick.
+    private final GLFWGamepadState[] sampledStates = new GLFWGamepadState[ButtonBinding.MAX_DEVICES];
+    // Last raw value of each axis of each device, to only notify the axis listeners of changes.
+    private final float[] axisValues = new float[ButtonBinding.MAX_DEVICES * (GLFW_GAMEPAD_AXIS_LAST + 1)];
+    // Processed values of each stick of each device, see StickResponse#process.
+    private final float[] stickValues = new float[ButtonBinding.MAX_DEVICES * StickResponse.STICK_COUNT * StickResponse.STRIDE];
+    private final GLFWGamepadState lookState = GLFWGamepadState.create();
+    private final float[] lookStick = new float[StickResponse.STRIDE];
+    private long lastLookFrame = NO_LOOK_FRAME;
     // Cooldowns
     private int actionGuiCooldown = 0;
     private boolean ignoreNextARelease = false;
@@ -89,6 +112,9 @@ public class LambdaInput {
 
     public LambdaInput(@NotNull LambdaControlsClient mod) {
         this.config = mod.config;
+        this.poller = mod.poller;
+        for (int i = 0; i < this.polledStates.length; i++)
+            this.polledStates[i] = GLFWGamepadState.create();
     }
 
     /**
@@ -102,14 +128,14 @@ public class LambdaInput {
 
         // Handles the key bindings.
         if (LambdaControlsClient.BINDING_LOOK_UP.isPressed()) {
-            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_Y, 0.8F, 2);
+            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_Y, KEYBOARD_LOOK_RESPONSE, 2);
         } else if (LambdaControlsClient.BINDING_LOOK_DOWN.isPressed()) {
-            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_Y, 0.8F, 1);
+            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_Y, KEYBOARD_LOOK_RESPONSE, 1);
         }
         if (LambdaControlsClient.BINDING_LOOK_LEFT.isPressed()) {
-            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_X, 0.8F, 2);
+            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_X, KEYBOARD_LOOK_RESPONSE, 2);
         } else if (LambdaControlsClient.BINDING_LOOK_RIGHT.isPressed()) {
-            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_X, 0.8F, 1);
+            this.handleLook(client, GLFW_GAMEPAD_AXIS_RIGHT_X, KEYBOARD_LOOK_RESPONSE, 1);
         }
 
         INPUT_MANAGER.tick(client);
@@ -121,37 +147,53 @@ public class LambdaInput {
      * @param client the client instance
      */
     public void tickController(@NotNull MinecraftClient client) {
-        BUTTON_COOLDOWNS.entrySet().stream().filter(entry -> entry.getValue() > 0)
-                .forEach(entry -> BUTTON_COOLDOWNS.put(entry.getKey(), entry.getValue() - 1));
+        BUTTON_COOLDOWNS.tick();
         // Decreases the cooldown for GUI actions.
         if (this.actionGuiCooldown > 0)
             --this.actionGuiCooldown;
 
         InputManager.updateStates();
 
-        var controller = this.config.getController();
-        if (controller.isConnected()) {
-            var state = controller.getState();
-            this.fetchButtonInput(client, state, false);
-            this.fetchAxeInput(client, state, false);
-        }
-        this.config.getSecondController().filter(Controller::isConnected)
-                .ifPresent(joycon -> {
-                    GLFWGamepadState state = joycon.getState();
-                    this.fetchButtonInput(client, state, true);
-                    this.fetchAxeInput(client, state, true);
-                });
-
         boolean allowInput = true;
 
         if (this.controlsInput != null && this.controlsInput.focusedBinding != null)
             allowInput = false;
 
+        var devices = this.config.getDevices();
+        if (this.poller.isRunning()) {
+            this.poller.track(devices);
+            this.poller.poll();
+        }
+
+        // The axes are processed first so the bindings updated while replaying the edges see this tick's axes.
+        for (int device = 0; device < devices.length; device++) {
+            var controller = devices[device];
+            if (controller == null || !controller.isConnected()) {
+                this.sampledStates[device] = null;
+                continue;
+            }
+            var state = this.sampledStates[device] = this.sampleController(controller, this.polledStates[device]);
+            this.fetchAxeInput(client, state, device);
+        }
+
+        // The cooldowns are updated once per tick, the replayed edges update the bindings several times.
+        if (allowInput)
+            InputManager.updateCooldowns();
+
+        if (this.poller.isRunning())
+            this.replayEdges(client, devices, allowInput);
+
+        for (int device = 0; device < devices.length; device++) {
+            var state = this.sampledStates[device];
+            if (state != null)
+                this.fetchButtonInput(client, state, device);
+        }
+
         if (allowInput)
             InputManager.updateBindings(client);
 
         if (this.controlsInput != null
-                && InputManager.STATES.int2ObjectEntrySet().parallelStream().map(Map.Entry::getValue).allMatch(ButtonState::isUnpressed)) {
+                && InputManager.STATE_TABLE.isAllUnpressed()) {
             if (this.controlsInput.focusedBinding != null && !this.controlsInput.waiting) {
                 int[] buttons = new int[this.controlsInput.currentButtons.size()];
                 for (int i = 0; i < this.controlsInput.currentButtons.size(); i++)
@@ -165,6 +207,58 @@ public class LambdaInput {
             this.inventoryInteractionCooldown--;
     }
 
+    /**
+     * Replays the button edges recorded by the poller in order.
+     * <p>
+     * If a button already changed state during this tick, the bindings are updated and the states advanced as at the end of a tick
+     * before applying its next edge, so a press and a release happening within the same tick are both delivered.
+     * The axes of this tick must already be processed, so the bindings combining an axis and a button see them.
+     *
+     * @param client the client instance
+     * @param devices the bound devices
+     * @param allowInput true if the bindings can be updated, else false
+     */
+    private void replayEdges(@NotNull MinecraftClient client, @NotNull Controller[] devices, boolean allowInput) {
+        var edges = this.poller.edges();
+        for (int edge = 0; edge < edges.size(); edge++) {
+            int id = edges.getController(edge);
+            for (int device = 0; device < devices.length; device++) {
+                if (devices[device] == null || devices[device].id() != id)
+                    continue;
+
+                int btn = ButtonBinding.deviceButton(device, edges.getButton(edge));
+                var previousState = InputManager.STATE_TABLE.getState(btn);
+                if (previousState == ButtonState.PRESS || previousState == ButtonState.RELEASE) {
+                    if (allowInput)
+                        InputManager.updateBindings(client);
+                    InputManager.updateStates();
+                }
+                this.applyButtonEdge(client, btn, edges.isPress(edge));
+            }
+        }
+        edges.clear();
+    }
+
+    private void applyButtonEdge(@NotNull MinecraftClient client, int btn, boolean pressed) {
+        this.handleButton(client, btn, pressed ? 0 : 1, pressed);
+        if (pressed)
+            BUTTON_COOLDOWNS.start(btn, ButtonBinding.DEFAULT_COOLDOWN);
+        InputManager.STATE_TABLE.setState(btn, pressed ? ButtonState.PRESS : ButtonState.RELEASE);
+    }
+
+    /**
+     * Samples the state of the specified controller, using the poller if it is running.
+     *
+     * @param controller the controller to sample
+     * @param polledState the state to write the polled sample into
+     * @return the state of the controller
+     */
+    private @NotNull GLFWGamepadState sampleController(@NotNull Controller controller, @NotNull GLFWGamepadState polledState) {
+        if (this.poller.isRunning() && this.poller.consume(controller.id(), polledState))
+            return polledState;
+        return controller.getState();
+    }
+
     /**
      * This method is called before the screen is rendered.
      *
@@ -183,12 +277,17 @@ public class LambdaInput {
      * @param client the client instance
      */
     public void onRender(float tickDelta, @NotNull MinecraftClient client) {
-        if (!(client.currentScreen == null || client.currentScreen instanceof TouchscreenOverlay))
+        var player = client.player;
+        if (!(client.currentScreen == null || client.currentScreen instanceof TouchscreenOverlay) || player == null) {
+            this.lastLookFrame = NO_LOOK_FRAME;
             return;
+        }
 
-        var player = client.player;
-        if (player == null)
+        if (this.config.hasPerFrameLook()) {
+            this.handleFrameLook(client, player);
             return;
+        }
+        this.lastLookFrame = NO_LOOK_FRAME;
 
         if (this.targetYaw != 0.f || this.targetPitch != 0.f) {
             float rotationYaw = (float) (player.prevYaw + (this.targetYaw / 0.10) * tickDelta);
@@ -202,6 +301,111 @@ public class LambdaInput {
         }
     }
 
+    /**
+     * Handles the look direction with the real time elapsed since the last frame.
+     * <p>
+     * The right stick is sampled every frame, the look bindings keep their tick targets.
+     * The rotation is the look rate integrated over the frame time, so it does not depend on the frame rate.
+     *
+     * @param client the client instance
+     * @param player the player
+     */
+    private void handleFrameLook(@NotNull MinecraftClient client, @NotNull ClientPlayerEntity player) {
+        long now = System.nanoTime();
+        long last = this.lastLookFrame;
+        this.lastLookFrame = now;
+        if (last == NO_LOOK_FRAME)
+            return;
+
+        double yawRate = this.targetYaw * LOOK_TARGET_TO_DEGREES_PER_SECOND;
+        double pitchRate = this.targetPitch * LOOK_TARGET_TO_DEGREES_PER_SECOND;
+        if (this.sampleFrameLook(client)) {
+            var config = this.config.snapshot();
+            config.getStickResponse(StickResponse.RIGHT_STICK).process(this.lookState.axes(GLFW_GAMEPAD_AXIS_RIGHT_X),
+                    this.lookState.axes(GLFW_GAMEPAD_AXIS_RIGHT_Y), this.lookStick, 0);
+            yawRate += config.rightXAxisSign() * getStickLookRate(config.rotationSpeed(), this.lookStick[0]);
+            pitchRate += config.rightYAxisSign() * getStickLookRate(config.rotationSpeed(), this.lookStick[1]);
+        }
+        if (yawRate == 0.0 && pitchRate == 0.0)
+            return;
+
+        double yaw = integrateLook(yawRate, last, now);
+        double pitch = integrateLook(pitchRate, last, now);
+        // The look direction changes are scaled by 0.15 like mouse movements.
+        player.changeLookDirection(yaw / 0.15, pitch / 0.15);
+        if (player.isRiding()) {
+            player.getVehicle().onPassengerLookAround(player);
+        }
+        client.getTutorialManager().onUpdateMouse(yaw, pitch);
+    }
+
+    /**
+     * Returns the look rate of a stick axis.
+     *
+     * @param rotationSpeed the rotation speed
+     * @param stick the processed stick axis value
+     * @return the look rate in degrees per second
+     */
+    static double getStickLookRate(double rotationSpeed, float stick) {
+        return rotationSpeed * 0.11D * LOOK_TARGET_TO_DEGREES_PER_SECOND * stick;
+    }
+
+    /**
+     * Integrates a look rate over a frame.
+     * <p>
+     * The frame time is clamped, so a freeze doesn't turn into a large rotation.
+     *
+     * @param rate the look rate in degrees per second
+     * @param lastFrame the time of the previous frame in nanoseconds
+     * @param frame the time of the current frame in nanoseconds
+     * @return the rotation in degrees
+     */
+    static double integrateLook(double rate, long lastFrame, long frame) {
+        return rate * Math.min((frame - lastFrame) / 1_000_000_000.0, MAX_LOOK_FRAME_SECONDS);
+    }
+
+    private boolean sampleFrameLook(@NotNull MinecraftClient client) {
+        if (client.currentScreen != null || this.config.getControlsMode() != ControlsMode.CONTROLLER
+                || !(client.isWindowFocused() || this.config.hasUnfocusedInput()))
+            return false;
+        var controller = this.config.getController();
+        if (!controller.isConnected())
+            return false;
+        // The controller state is not swapped, the tick sampling still sees every change.
+        if (this.poller.isRunning())
+            return this.poller.consume(controller.id(), this.lookState);
+        return GLFW.glfwGetGamepadState(controller.id(), this.lookState);
+    }
+
+    /**
+     * Returns the processed value of the specified stick axis, with the dead zone and the response curve of its stick applied.
+     * <p>
+     * The sticks are processed once per tick, the look, movement and virtual mouse inputs read their values from here.
+     *
+     * @param device the device
+     * @param axis the local stick axis
+     * @return the processed value, from {@code -1} to {@code 1}
+     */
+    public float getStickValue(int device, int axis) {
+        return this.stickValues[this.getStickValueIndex(device, axis)];
+    }
+
+    /**
+     * Returns the processed value of the specified stick axis, with the dead zone of its stick applied but not the response curve.
+     *
+     * @param device the device
+     * @param axis the local stick axis
+     * @return the processed value, from {@code -1} to {@code 1}
+     */
+    public float getLinearStickValue(int device, int axis) {
+        return this.stickValues[this.getStickValueIndex(device, axis) + 2];
+    }
+
+    private int getStickValueIndex(int device, int axis) {
+        int index = (device * StickResponse.STICK_COUNT + StickResponse.getStick(axis)) * StickResponse.STRIDE;
+        return axis == GLFW_GAMEPAD_AXIS_LEFT_Y || axis == GLFW_GAMEPAD_AXIS_RIGHT_Y ? index + 1 : index;
+    }
+
     /**
      * This method is called when a Screen is opened.
      *
@@ -228,43 +432,51 @@ public class LambdaInput {
         }
     }
 
-    private void fetchButtonInput(@NotNull MinecraftClient client, @NotNull GLFWGamepadState gamepadState, boolean leftJoycon) {
-        var buffer = gamepadState.buttons();
-        for (int i = 0; i < buffer.limit(); i++) {
-            int btn = leftJoycon ? ButtonBinding.controller2Button(i) : i;
-            boolean btnState = buffer.get() == (byte) 1;
-            var state = ButtonState.NONE;
-            var previousState = InputManager.STATES.getOrDefault(btn, ButtonState.NONE);
+    private void fetchButtonInput(@NotNull MinecraftClient client, @NotNull GLFWGamepadState gamepadState, int device) {
+        for (int i = 0; i <= GLFW.GLFW_GAMEPAD_BUTTON_LAST; i++) {
+            int btn = ButtonBinding.deviceButton(device, i);
+            boolean btnState = gamepadState.buttons(i) == GLFW.GLFW_PRESS;
+            var previousState = InputManager.STATE_TABLE.getState(btn);
 
             if (btnState != previousState.isPressed()) {
-                state = btnState ? ButtonState.PRESS : ButtonState.RELEASE;
-                this.handleButton(client, btn, btnState ? 0 : 1, btnState);
-                if (btnState)
-                    BUTTON_COOLDOWNS.put(btn, 5);
+                this.applyButtonEdge(client, btn, btnState);
+            } else if (previousState == ButtonState.PRESS || previousState == ButtonState.RELEASE) {
+                // The edge has already been replayed during this tick.
+                continue;
             } else if (btnState) {
-                state = ButtonState.REPEAT;
-                if (BUTTON_COOLDOWNS.getOrDefault(btn, 0) == 0) {
-                    BUTTON_COOLDOWNS.put(btn, 5);
+                InputManager.STATE_TABLE.setState(btn, ButtonState.REPEAT);
+                if (BUTTON_COOLDOWNS.isElapsed(btn)) {
+                    BUTTON_COOLDOWNS.start(btn, ButtonBinding.DEFAULT_COOLDOWN);
                     this.handleButton(client, btn, 2, true);
                 }
+            } else {
+                InputManager.STATE_TABLE.setState(btn, ButtonState.NONE);
             }
-
-            InputManager.STATES.put(btn, state);
         }
     }
 
-    private void fetchAxeInput(@NotNull MinecraftClient client, @NotNull GLFWGamepadState gamepadState, boolean leftJoycon) {
-        var buffer = gamepadState.axes();
-        for (int i = 0; i < buffer.limit(); i++) {
-            int axis = leftJoycon ? ButtonBinding.controller2Button(i) : i;
-            float value = buffer.get();
+    private void fetchAxeInput(@NotNull MinecraftClient client, @NotNull GLFWGamepadState gamepadState, int device) {
+        var config = this.config.snapshot();
+        int stickOffset = device * StickResponse.STICK_COUNT * StickResponse.STRIDE;
+        config.getStickResponse(StickResponse.LEFT_STICK).process(gamepadState.axes(GLFW_GAMEPAD_AXIS_LEFT_X), gamepadState.axes(GLFW_GAMEPAD_AXIS_LEFT_Y),
+                this.stickValues, stickOffset);
+        config.getStickResponse(StickResponse.RIGHT_STICK).process(gamepadState.axes(GLFW_GAMEPAD_AXIS_RIGHT_X), gamepadState.axes(GLFW_GAMEPAD_AXIS_RIGHT_Y),
+                this.stickValues, stickOffset + StickResponse.STRIDE);
+
+        for (int i = 0; i <= GLFW_GAMEPAD_AXIS_LAST; i++) {
+            int axis = ButtonBinding.deviceButton(device, i);
+            float value = gamepadState.axes(i);
+            int axisIndex = device * (GLFW_GAMEPAD_AXIS_LAST + 1) + i;
+            if (this.axisValues[axisIndex] != value) {
+                this.axisValues[axisIndex] = value;
+                InputManager.dispatchAxisMoved(client, axis, value);
+            }
             float absValue = Math.abs(value);
 
             if (i == GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y)
                 value *= -1.0F;
 
-            int state = value > this.config.getRightDeadZone() ? 1 : (value < -this.config.getRightDeadZone() ? 2 : 0);
-            this.handleAxe(client, axis, value, absValue, state);
+            this.handleAxe(client, axis, value, absValue);
         }
     }
 
@@ -427,66 +639,61 @@ public class LambdaInput {
                 });
     }
 
-    private double getDeadZoneValue(int axis) {
-        return (axis == GLFW_GAMEPAD_AXIS_LEFT_X || axis == GLFW_GAMEPAD_AXIS_LEFT_Y) ? this.config.getLeftDeadZone()
-                : this.config.getRightDeadZone();
-    }
-
-    private void handleAxe(@NotNull MinecraftClient client, int axis, float value, float absValue, int state) {
+    private void handleAxe(@NotNull MinecraftClient client, int axis, float value, float absValue) {
         int asButtonState = value > 0.5f ? 1 : (value < -0.5f ? 2 : 0);
 
-        if (axis == GLFW_GAMEPAD_AXIS_LEFT_TRIGGER || axis == GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER
-                || axis == ButtonBinding.controller2Button(GLFW.GLFW_GAMEPAD_AXIS_LEFT_TRIGGER)
-                || axis == ButtonBinding.controller2Button(GLFW.GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER)) {
-            asButtonState = value > this.config.getAxeButtonThreshold() ? 1 : (value < -this.config.getAxeButtonThreshold() ? 2 : 0); // hack to allow trigger sensitivity adjustment
-            if (asButtonState == 2)
-                asButtonState = 0;
+        int localAxis = ButtonBinding.getLocalButton(axis);
+        var response = this.config.getAxisResponse(localAxis);
+        // The stick axes have been processed along with the other axis of their stick.
+        boolean stickAxis = StickResponse.getStick(localAxis) != -1;
+        float stickValue = stickAxis ? this.getStickValue(ButtonBinding.getDevice(axis), localAxis) : 0.f;
+        if (stickAxis) {
+            // The press state comes from the processed stick vector, so the stick dead zone shape also applies to the bindings.
+            float pressValue = this.getLinearStickValue(ButtonBinding.getDevice(axis), localAxis);
+            if (localAxis == GLFW_GAMEPAD_AXIS_LEFT_Y)
+                pressValue = -pressValue;
+            asButtonState = pressValue > STICK_PRESS_THRESHOLD ? 1 : (pressValue < -STICK_PRESS_THRESHOLD ? 2 : 0);
+        } else if (localAxis == GLFW_GAMEPAD_AXIS_LEFT_TRIGGER || localAxis == GLFW_GAMEPAD_AXIS_RIGHT_TRIGGER) {
+            // The triggers only have a positive direction.
+            asButtonState = value > this.config.getAxeButtonThreshold() ? 1 : 0;
         }
 
         {
             boolean currentPlusState = asButtonState == 1;
             boolean currentMinusState = asButtonState == 2;
-            var previousPlusState = InputManager.STATES.getOrDefault(axisAsButton(axis, true), ButtonState.NONE);
-            var previousMinusState = InputManager.STATES.getOrDefault(axisAsButton(axis, false), ButtonState.NONE);
+            int plusButton = axisAsButton(axis, true);
+            int minusButton = axisAsButton(axis, false);
+            var previousPlusState = InputManager.STATE_TABLE.getState(plusButton);
+            var previousMinusState = InputManager.STATE_TABLE.getState(minusButton);
 
             if (currentPlusState != previousPlusState.isPressed()) {
-                InputManager.STATES.put(axisAsButton(axis, true), currentPlusState ? ButtonState.PRESS : ButtonState.RELEASE);
+                InputManager.STATE_TABLE.setState(plusButton, currentPlusState ? ButtonState.PRESS : ButtonState.RELEASE);
                 if (currentPlusState)
-                    BUTTON_COOLDOWNS.put(axisAsButton(axis, true), 5);
+                    BUTTON_COOLDOWNS.start(plusButton, ButtonBinding.DEFAULT_COOLDOWN);
             } else if (currentPlusState) {
-                InputManager.STATES.put(axisAsButton(axis, true), ButtonState.REPEAT);
-                if (BUTTON_COOLDOWNS.getOrDefault(axisAsButton(axis, true), 0) == 0) {
-                    BUTTON_COOLDOWNS.put(axisAsButton(axis, true), 5);
+                InputManager.STATE_TABLE.setState(plusButton, ButtonState.REPEAT);
+                if (BUTTON_COOLDOWNS.isElapsed(plusButton)) {
+                    BUTTON_COOLDOWNS.start(plusButton, ButtonBinding.DEFAULT_COOLDOWN);
                 }
             }
 
             if (currentMinusState != previousMinusState.isPressed()) {
-                InputManager.STATES.put(axisAsButton(axis, false), currentMinusState ? ButtonState.PRESS : ButtonState.RELEASE);
+                InputManager.STATE_TABLE.setState(minusButton, currentMinusState ? ButtonState.PRESS : ButtonState.RELEASE);
                 if (currentMinusState)
-                    BUTTON_COOLDOWNS.put(axisAsButton(axis, false), 5);
+                    BUTTON_COOLDOWNS.start(minusButton, ButtonBinding.DEFAULT_COOLDOWN);
             } else if (currentMinusState) {
-                InputManager.STATES.put(axisAsButton(axis, false), ButtonState.REPEAT);
-                if (BUTTON_COOLDOWNS.getOrDefault(axisAsButton(axis, false), 0) == 0) {
-                    BUTTON_COOLDOWNS.put(axisAsButton(axis, false), 5);
+                InputManager.STATE_TABLE.setState(minusButton, ButtonState.REPEAT);
+                if (BUTTON_COOLDOWNS.isElapsed(minusButton)) {
+                    BUTTON_COOLDOWNS.start(minusButton, ButtonBinding.DEFAULT_COOLDOWN);
                 }
             }
 
-            double deadZone = this.getDeadZoneValue(axis);
-            float axisValue = absValue < deadZone ? 0.f : (float) (absValue - deadZone);
-            axisValue /= (1.0 - deadZone);
-
-            axisValue = (float) Math.min(axisValue / this.config.getAxisMaxValue(axis), 1);
-            if (currentPlusState)
-                InputManager.BUTTON_VALUES.put(axisAsButton(axis, true), axisValue);
-            else
-                InputManager.BUTTON_VALUES.put(axisAsButton(axis, true), 0.f);
-            if (currentMinusState)
-                InputManager.BUTTON_VALUES.put(axisAsButton(axis, false), axisValue);
-            else
-                InputManager.BUTTON_VALUES.put(axisAsButton(axis, false), 0.f);
+            float axisValue = stickAxis ? Math.abs(stickValue) : response.apply(absValue);
+            InputManager.STATE_TABLE.setValue(plusButton, currentPlusState ? axisValue : 0.f);
+            InputManager.STATE_TABLE.setValue(minusButton, currentMinusState ? axisValue : 0.f);
         }
 
-        double deadZone = this.getDeadZoneValue(axis);
+        double deadZone = response.getDeadZone();
 
         if (this.controlsInput != null && this.controlsInput.focusedBinding != null) {
             if (asButtonState != 0 && !this.controlsInput.currentButtons.contains(axisAsButton(axis, asButtonState == 1))) {
@@ -521,13 +728,12 @@ public class LambdaInput {
             }
         }
 
-        absValue -= deadZone;
-        absValue /= (1.0 - deadZone);
-        absValue = (float) MathHelper.clamp(absValue / this.config.getAxisMaxValue(axis), 0.f, 1.f);
         if (client.currentScreen == null) {
-            // Handles the look direction.
-            this.handleLook(client, axis, absValue, state);
+            // Handles the look direction, the per-frame look samples the stick itself.
+            if (stickAxis && !this.config.hasPerFrameLook())
+                this.handleLook(client, axis, Math.abs(stickValue), stickValue > 0 ? 1 : (stickValue < 0 ? 2 : 0));
         } else {
+            absValue = stickAxis ? Math.abs(this.getLinearStickValue(ButtonBinding.getDevice(axis), localAxis)) : response.normalize(absValue);
             boolean allowMouseControl = true;
 
             if (this.actionGuiCooldown == 0 && this.config.isMovementAxis(axis) && isScreenInteractive(client.currentScreen)) {
@@ -667,25 +873,25 @@ public class LambdaInput {
      *
      * @param client the client instance
      * @param axis the axis to change
-     * @param value the value of the look
+     * @param value the response of the look axis
      * @param state the state
      */
     public void handleLook(@NotNull MinecraftClient client, int axis, float value, int state) {
         // Handles the look direction.
         if (client.player != null) {
-            double powValue = Math.pow(value, 2.0);
+            var config = this.config.snapshot();
             if (axis == GLFW_GAMEPAD_AXIS_RIGHT_Y) {
                 if (state == 2) {
-                    this.targetPitch = -this.config.getRightYAxisSign() * (this.config.getRotationSpeed() * powValue) * 0.11D;
+                    this.targetPitch = -config.rightYAxisSign() * (config.rotationSpeed() * value) * 0.11D;
                 } else if (state == 1) {
-                    this.targetPitch = this.config.getRightYAxisSign() * (this.config.getRotationSpeed() * powValue) * 0.11D;
+                    this.targetPitch = config.rightYAxisSign() * (config.rotationSpeed() * value) * 0.11D;
                 }
             }
             if (axis == GLFW_GAMEPAD_AXIS_RIGHT_X) {
                 if (state == 2) {
-                    this.targetYaw = -this.config.getRightXAxisSign() * (this.config.getRotationSpeed() * powValue) * 0.11D;
+                    this.targetYaw = -config.rightXAxisSign() * (config.rotationSpeed() * value) * 0.11D;
                 } else if (state == 1) {
-                    this.targetYaw = this.config.getRightXAxisSign() * (this.config.getRotationSpeed() * powValue) * 0.11D;
+                    this.targetYaw = config.rightXAxisSign() * (config.rotationSpeed() * value) * 0.11D;
                 }
             }
         }
@@ -711,9 +917,7 @@ public class LambdaInput {
     }
 
     public static boolean isScreenInteractive(@NotNull Screen screen) {
-        return !(screen instanceof AdvancementsScreen || screen instanceof HandledScreen || screen instanceof PackScreen
-                || (screen instanceof SpruceScreen && ((SpruceScreen) screen).requiresCursor())
-                || LambdaControlsCompat.requireMouseOnScreen(screen));
+        return InputContext.INTERACTIVE_SCREEN.isIn(InputContext.of(screen));
     }
 
     // Inspired from https://github.com/MrCrayfish/Controllable/blob/1.14.X/src/main/java/com/mrcrayfish/controllable/client/ControllerInput.java#L686.
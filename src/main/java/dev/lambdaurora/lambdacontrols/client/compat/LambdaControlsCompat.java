@@ -14,6 +14,7 @@ import dev.lambdaurora.lambdacontrols.client.controller.InputManager;
 import net.fabricmc.loader.api.FabricLoader;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.util.Util;
 import net.minecraft.util.hit.BlockHitResult;
 import org.aperlambda.lambdacommon.utils.LambdaReflection;
 import org.jetbrains.annotations.NotNull;
@@ -21,6 +22,8 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -35,24 +38,39 @@ public class LambdaControlsCompat {
 
     /**
      * Initializes compatibility with other mods if needed.
+     * <p>
+     * The mods are discovered in the background, the handlers are then registered on the client thread
+     * and only the button bindings they add are loaded from the configuration.
      *
      * @param mod the mod instance
+     * @param client the client instance
+     * @return the future completed once the compatibility handlers are registered
      */
-    public static void init(@NotNull LambdaControlsClient mod) {
+    public static @NotNull CompletableFuture<Void> init(@NotNull LambdaControlsClient mod, @NotNull MinecraftClient client) {
+        return CompletableFuture.supplyAsync(() -> discover(mod), Util.getMainWorkerExecutor())
+                .thenAcceptAsync(handlers -> {
+                    HANDLERS.addAll(handlers);
+                    var known = InputManager.streamBindings().collect(Collectors.toSet());
+                    HANDLERS.forEach(handler -> handler.handle(mod));
+                    InputManager.streamBindings().filter(binding -> !known.contains(binding)).forEach(mod.config::loadButtonBinding);
+                }, client);
+    }
+
+    private static @NotNull List<CompatHandler> discover(@NotNull LambdaControlsClient mod) {
+        var handlers = new ArrayList<CompatHandler>();
         if (FabricLoader.getInstance().isModLoaded("okzoomer")) {
             mod.log("Adding okzoomer compatibility...");
-            HANDLERS.add(new OkZoomerCompat());
+            handlers.add(new OkZoomerCompat());
         }
         /*if (isReiPresent()) {
             mod.log("Adding REI compatiblity...");
-            HANDLERS.add(new ReiCompat());
+            handlers.add(new ReiCompat());
         }*/
         if (FabricLoader.getInstance().isModLoaded("hardcorequesting") && LambdaReflection.doesClassExist(HQMCompat.GUI_BASE_CLASS_PATH)) {
             mod.log("Adding HQM compatibility...");
-            HANDLERS.add(new HQMCompat());
+            handlers.add(new HQMCompat());
         }
-        HANDLERS.forEach(handler -> handler.handle(mod));
-        InputManager.loadButtonBindings(mod.config);
+        return handlers;
     }
 
     /**
@@ -80,7 +98,11 @@ public class LambdaControlsCompat {
      * @return true if the mouse is requried on the specified screen, else false
      */
     public static boolean requireMouseOnScreen(Screen screen) {
-        return HANDLERS.stream().anyMatch(handler -> handler.requireMouseOnScreen(screen));
+        for (var handler : HANDLERS) {
+            if (handler.requireMouseOnScreen(screen))
+                return true;
+        }
+        return false;
     }
 
     /**
@@ -0,0 +1,92 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents the compiled response of an analog axis.
+ * <p>
+ * The dead zone, the max value and the response curve are baked into a lookup table indexed by the raw magnitude of the axis,
+ * so mapping an axis value is a table lookup with a linear interpolation. Instances are immutable.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class AxisResponse {
+    /**
+     * The number of intervals of the lookup table.
+     */
+    public static final int RESOLUTION = 256;
+
+    private final float deadZone;
+    private final float scale;
+    private final float[] table = new float[RESOLUTION + 1];
+
+    private AxisResponse(double deadZone, double maxValue) {
+        this.deadZone = (float) deadZone;
+        this.scale = (float) (1.0 / ((1.0 - deadZone) * maxValue));
+    }
+
+    /**
+     * Compiles the response of an axis.
+     *
+     * @param curve the response curve
+     * @param points the responses of the spline curve
+     * @param deadZone the dead zone of the axis
+     * @param maxValue the max value of the axis
+     * @return the compiled response
+     */
+    public static @NotNull AxisResponse compile(@NotNull ResponseCurve curve, @NotNull float[] points, double deadZone, double maxValue) {
+        var response = new AxisResponse(deadZone, maxValue);
+        for (int i = 0; i <= RESOLUTION; i++)
+            response.table[i] = curve.apply(response.normalize((float) i / RESOLUTION), points);
+        return response;
+    }
+
+    /**
+     * Returns the dead zone of the axis.
+     *
+     * @return the dead zone
+     */
+    public float getDeadZone() {
+        return this.deadZone;
+    }
+
+    /**
+     * Normalizes the magnitude of the axis without applying the response curve.
+     *
+     * @param absValue the raw magnitude of the axis
+     * @return the magnitude outside of the dead zone, scaled by the max value, from {@code 0} to {@code 1}
+     */
+    public float normalize(float absValue) {
+        if (absValue <= this.deadZone)
+            return 0.f;
+        return Math.min((absValue - this.deadZone) * this.scale, 1.f);
+    }
+
+    /**
+     * Maps the magnitude of the axis to its response.
+     *
+     * @param absValue the raw magnitude of the axis
+     * @return the response, from {@code 0} to {@code 1}
+     */
+    public float apply(float absValue) {
+        if (absValue <= this.deadZone)
+            return 0.f;
+        if (absValue >= 1.f)
+            return this.table[RESOLUTION];
+        float position = absValue * RESOLUTION;
+        int i = (int) position;
+        float low = this.table[i];
+        return low + (this.table[i + 1] - low) * (position - i);
+    }
+}
@@ -10,6 +10,7 @@
 package dev.lambdaurora.lambdacontrols.client.controller;
 
 import dev.lambdaurora.lambdacontrols.client.ButtonState;
+import dev.lambdaurora.lambdacontrols.client.event.ButtonBindingCallback;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.GameOptions;
 import net.minecraft.client.option.KeyBinding;
@@ -23,7 +24,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static org.lwjgl.glfw.GLFW.*;
 
@@ -31,10 +31,30 @@ import static org.lwjgl.glfw.GLFW.*;
  * Represents a button binding.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
 public class ButtonBinding implements Nameable {
+    /**
+     * The default cooldown length in ticks.
+     */
+    public static final int DEFAULT_COOLDOWN = 5;
+    /**
+     * The maximum number of devices buttons can be bound to.
+     */
+    public static final int MAX_DEVICES = GLFW_JOYSTICK_LAST + 1;
+    // The device index is packed above the button code of the device.
+    private static final int DEVICE_SHIFT = 10;
+    /**
+     * The mask of the button code local to its device.
+     */
+    public static final int LOCAL_BUTTON_MASK = (1 << DEVICE_SHIFT) - 1;
+    // Offset of the second controller buttons in the codes used before device indices.
+    private static final int LEGACY_SECOND_CONTROLLER_OFFSET = 500;
+    // Filter of the bindings only restricted by their contexts, declared before the bindings which use it.
+    static final PairPredicate<MinecraftClient, ButtonBinding> CONTEXT_FILTER = (client, binding) -> binding.isAvailable(client);
+    private static final PairPredicate<MinecraftClient, ButtonBinding> ALWAYS_TRUE = Predicates.pairAlwaysTrue();
+    private static final ButtonBindingCallback[] NO_LISTENERS = new ButtonBindingCallback[0];
     public static final ButtonCategory MOVEMENT_CATEGORY;
     public static final ButtonCategory GAMEPLAY_CATEGORY;
     public static final ButtonCategory INVENTORY_CATEGORY;
@@ -77,9 +97,9 @@ public class ButtonBinding implements Nameable {
     public static final ButtonBinding SPRINT = new Builder("sprint").buttons(GLFW_GAMEPAD_BUTTON_LEFT_THUMB).onlyInGame().register();
     public static final ButtonBinding SWAP_HANDS = new Builder("swap_hands").buttons(GLFW_GAMEPAD_BUTTON_X).onlyInGame().cooldown().register();
     public static final ButtonBinding TAB_LEFT = new Builder("tab_back").buttons(GLFW_GAMEPAD_BUTTON_LEFT_BUMPER)
-            .action(InputHandlers.handleHotbar(false)).filter(Predicates.or(InputHandlers::inInventory, InputHandlers::inAdvancements)).cooldown().register();
+            .action(InputHandlers.handleHotbar(false)).onlyIn(InputContext.HANDLED_SCREEN, InputContext.ADVANCEMENTS).cooldown().register();
     public static final ButtonBinding TAB_RIGHT = new Builder("tab_next").buttons(GLFW_GAMEPAD_BUTTON_RIGHT_BUMPER)
-            .action(InputHandlers.handleHotbar(true)).filter(Predicates.or(InputHandlers::inInventory, InputHandlers::inAdvancements)).cooldown().register();
+            .action(InputHandlers.handleHotbar(true)).onlyIn(InputContext.HANDLED_SCREEN, InputContext.ADVANCEMENTS).cooldown().register();
     public static final ButtonBinding TOGGLE_PERSPECTIVE = new Builder("toggle_perspective").buttons(GLFW_GAMEPAD_BUTTON_DPAD_UP, GLFW_GAMEPAD_BUTTON_Y).cooldown().register();
     public static final ButtonBinding USE = new Builder("use").buttons(axisAsButton(GLFW_GAMEPAD_AXIS_LEFT_TRIGGER, true)).register();
 
@@ -89,22 +109,29 @@ public class ButtonBinding implements Nameable {
     private final Text text;
     private KeyBinding mcKeyBinding = null;
     protected PairPredicate<MinecraftClient, ButtonBinding> filter;
+    private final boolean customFilter;
+    int contexts = InputContext.ALL;
     private final List<PressAction> actions = new ArrayList<>(Collections.singletonList(PressAction.DEFAULT_ACTION));
+    private ButtonBindingCallback[] listeners = NO_LISTENERS;
     private boolean hasCooldown;
+    private int cooldownLength = DEFAULT_COOLDOWN;
     private int cooldown = 0;
     boolean pressed = false;
+    int registryBucket = -1;
+    ButtonBindingRegistry.ButtonSet registryButtons;
 
     public ButtonBinding(String key, int[] defaultButton, List<PressAction> actions, PairPredicate<MinecraftClient, ButtonBinding> filter, boolean hasCooldown) {
         this.setButton(this.defaultButton = defaultButton);
         this.key = key;
         this.text = new TranslatableText(this.key);
         this.filter = filter;
+        this.customFilter = filter != CONTEXT_FILTER && filter != ALWAYS_TRUE;
         this.actions.addAll(actions);
         this.hasCooldown = hasCooldown;
     }
 
     public ButtonBinding(String key, int[] defaultButton, boolean hasCooldown) {
-        this(key, defaultButton, Collections.emptyList(), Predicates.pairAlwaysTrue(), hasCooldown);
+        this(key, defaultButton, Collections.emptyList(), ALWAYS_TRUE, hasCooldown);
     }
 
     /**
@@ -125,7 +152,7 @@ public class ButtonBinding implements Nameable {
         this.button = button;
 
         if (InputManager.hasBinding(this))
-            InputManager.sortBindings();
+            InputManager.onBindingButtonChanged(this);
     }
 
     /**
@@ -180,9 +207,26 @@ public class ButtonBinding implements Nameable {
      * @return the button code
      */
     public String getButtonCode() {
-        return Arrays.stream(this.button)
-                .mapToObj(btn -> Integer.valueOf(btn).toString())
-                .collect(Collectors.joining("+"));
+        return toButtonCode(this.button);
+    }
+
+    /**
+     * Returns the button code of the specified buttons.
+     *
+     * @param buttons the buttons
+     * @return the button code
+     */
+    public static String toButtonCode(int[] buttons) {
+        var code = new StringBuilder();
+        for (int i = 0; i < buttons.length; i++) {
+            if (i != 0)
+                code.append('+');
+            int device = getDevice(buttons[i]);
+            if (device != 0)
+                code.append(device).append(':');
+            code.append(getLocalButton(buttons[i]));
+        }
+        return code.toString();
     }
 
     /**
@@ -201,7 +245,76 @@ public class ButtonBinding implements Nameable {
      * @return true if the button binding is available, else false
      */
     public boolean isAvailable(@NotNull MinecraftClient client) {
-        return this.filter.test(client, this);
+        return this.isAvailable(client, InputContext.of(client));
+    }
+
+    /**
+     * Returns whether the button binding is available in the specified contexts.
+     * <p>
+     * The custom filter of the binding, if any, is only tested if the binding is available in the contexts.
+     *
+     * @param client the client instance
+     * @param contexts the mask of the current contexts
+     * @return true if the button binding is available, else false
+     * @see InputContext#of(MinecraftClient)
+     */
+    public boolean isAvailable(@NotNull MinecraftClient client, int contexts) {
+        return (this.contexts & contexts) != 0 && (!this.customFilter || this.filter.test(client, this));
+    }
+
+    /**
+     * Returns the mask of the contexts in which this binding is available.
+     *
+     * @return the contexts mask
+     * @see InputContext
+     */
+    public int getContexts() {
+        return this.contexts;
+    }
+
+    /**
+     * Returns whether this binding has a custom filter which has to be tested on top of its contexts.
+     *
+     * @return true if this binding has a custom filter, else false
+     */
+    public boolean hasCustomFilter() {
+        return this.customFilter;
+    }
+
+    /**
+     * Returns whether this button binding has a cooldown.
+     *
+     * @return true if this button binding has a cooldown, else false
+     */
+    public boolean hasCooldown() {
+        return this.hasCooldown;
+    }
+
+    /**
+     * Gets the length of the cooldown applied when this button binding is pressed.
+     *
+     * @return the cooldown length in ticks
+     */
+    public int getCooldownLength() {
+        return this.cooldownLength;
+    }
+
+    /**
+     * Sets the length of the cooldown applied when this button binding is pressed.
+     *
+     * @param cooldownLength the cooldown length in ticks
+     */
+    public void setCooldownLength(int cooldownLength) {
+        this.cooldownLength = Math.max(0, cooldownLength);
+    }
+
+    /**
+     * Returns whether this button binding has a running cooldown.
+     *
+     * @return true if the cooldown is running, else false
+     */
+    boolean isCoolingDown() {
+        return this.hasCooldown && this.cooldown > 0;
     }
 
     /**
@@ -219,10 +332,14 @@ public class ButtonBinding implements Nameable {
      * @param state the state
      */
     public void handle(@NotNull MinecraftClient client, float value, @NotNull ButtonState state) {
+        for (var listener : this.listeners)
+            listener.apply(client, this, state, value);
+        ButtonBindingCallback.EVENT.invoker().apply(client, this, state, value);
+
         if (state == ButtonState.REPEAT && this.hasCooldown && this.cooldown != 0)
             return;
         if (this.hasCooldown && state.isPressed()) {
-            this.cooldown = 5;
+            this.cooldown = this.cooldownLength;
         }
         for (int i = this.actions.size() - 1; i >= 0; i--) {
             if (this.actions.get(i).press(client, this, value, state))
@@ -230,6 +347,19 @@ public class ButtonBinding implements Nameable {
         }
     }
 
+    /**
+     * Registers a listener of this button binding, called when it is pressed, repeated or released.
+     * <p>
+     * Listeners are called before the press actions, regardless of the cooldown.
+     *
+     * @param listener the listener
+     */
+    public void registerListener(@NotNull ButtonBindingCallback listener) {
+        var listeners = Arrays.copyOf(this.listeners, this.listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+        this.listeners = listeners;
+    }
+
     @Override
     public @NotNull String getName() {
         return this.key;
@@ -282,8 +412,7 @@ public class ButtonBinding implements Nameable {
      * @return true if the button is an axis, else false
      */
     public static boolean isAxis(int button) {
-        button %= 500;
-        return button >= 100;
+        return getLocalButton(button) >= 100;
     }
 
     /**
@@ -293,7 +422,50 @@ public class ButtonBinding implements Nameable {
      * @return the second Joycon's button code
      */
     public static int controller2Button(int button) {
-        return 500 + button;
+        return deviceButton(1, button);
+    }
+
+    /**
+     * Returns the code of the specified button of the specified device.
+     *
+     * @param device the device index
+     * @param button the button code local to the device
+     * @return the button code
+     */
+    public static int deviceButton(int device, int button) {
+        return (device << DEVICE_SHIFT) | button;
+    }
+
+    /**
+     * Returns the device index of the specified button code.
+     *
+     * @param button the button code
+     * @return the device index
+     */
+    public static int getDevice(int button) {
+        return button < 0 ? 0 : button >>> DEVICE_SHIFT;
+    }
+
+    /**
+     * Returns the specified button code local to its device.
+     *
+     * @param button the button code
+     * @return the button code local to its device
+     */
+    public static int getLocalButton(int button) {
+        return button < 0 ? button : button & LOCAL_BUTTON_MASK;
+    }
+
+    /**
+     * Converts a button code written before device indices, where second controller buttons were offset by 500.
+     *
+     * @param button the legacy button code
+     * @return the button code
+     */
+    public static int fromLegacyButton(int button) {
+        if (button < LEGACY_SECOND_CONTROLLER_OFFSET)
+            return button;
+        return deviceButton(1, button - LEGACY_SECOND_CONTROLLER_OFFSET);
     }
 
     public static void init(@NotNull GameOptions options) {
@@ -324,7 +496,7 @@ public class ButtonBinding implements Nameable {
      * @return the localized name of the button
      */
     public static @NotNull Text getLocalizedButtonName(int button) {
-        return switch (button % 500) {
+        return switch (getLocalButton(button)) {
             case -1 -> new TranslatableText("key.keyboard.unknown");
             case GLFW_GAMEPAD_BUTTON_A -> new TranslatableText("lambdacontrols.button.a");
             case GLFW_GAMEPAD_BUTTON_B -> new TranslatableText("lambdacontrols.button.b");
@@ -412,15 +584,17 @@ public class ButtonBinding implements Nameable {
      * Represents a quick {@link ButtonBinding} builder.
      *
      * @author LambdAurora
-     * @version 1.5.0
+     * @version 1.8.0
      * @since 1.1.0
      */
     public static class Builder {
         private final String key;
         private int[] buttons = new int[0];
         private final List<PressAction> actions = new ArrayList<>();
-        private PairPredicate<MinecraftClient, ButtonBinding> filter = Predicates.pairAlwaysTrue();
+        private PairPredicate<MinecraftClient, ButtonBinding> filter = ALWAYS_TRUE;
+        private int contexts = InputContext.ALL;
         private boolean cooldown = false;
+        private int cooldownLength = DEFAULT_COOLDOWN;
         private ButtonCategory category = null;
         private KeyBinding mcBinding = null;
 
@@ -492,6 +666,21 @@ public class ButtonBinding implements Nameable {
          */
         public Builder filter(@NotNull PairPredicate<MinecraftClient, ButtonBinding> filter) {
             this.filter = filter;
+            this.contexts = InputContext.ALL;
+            return this;
+        }
+
+        /**
+         * Sets the {@link ButtonBinding} to only be available in the specified contexts.
+         * <p>
+         * Prefer this over {@link #filter(PairPredicate)} when possible, as the contexts are only computed once per tick.
+         *
+         * @param contexts the contexts
+         * @return the builder instance
+         */
+        public Builder onlyIn(@NotNull InputContext... contexts) {
+            this.filter = CONTEXT_FILTER;
+            this.contexts = InputContext.maskOf(contexts);
             return this;
         }
 
@@ -499,22 +688,22 @@ public class ButtonBinding implements Nameable {
          * Sets the filter of {@link ButtonBinding} to only in game.
          *
          * @return the builder instance
-         * @see #filter(PairPredicate)
+         * @see #onlyIn(InputContext...)
          * @see InputHandlers#inGame(MinecraftClient, ButtonBinding)
          */
         public Builder onlyInGame() {
-            return this.filter(InputHandlers::inGame);
+            return this.onlyIn(InputContext.IN_GAME);
         }
 
         /**
          * Sets the filter of {@link ButtonBinding} to only in inventory.
          *
          * @return the builder instance
-         * @see #filter(PairPredicate)
+         * @see #onlyIn(InputContext...)
          * @see InputHandlers#inInventory(MinecraftClient, ButtonBinding)
          */
         public Builder onlyInInventory() {
-            return this.filter(InputHandlers::inInventory);
+            return this.onlyIn(InputContext.HANDLED_SCREEN);
         }
 
         /**
@@ -538,6 +727,18 @@ public class ButtonBinding implements Nameable {
             return this.cooldown(true);
         }
 
+        /**
+         * Puts a cooldown of the specified length on the {@link ButtonBinding}.
+         *
+         * @param ticks the length of the cooldown in ticks
+         * @return the builder instance
+         * @since 1.8.0
+         */
+        public Builder cooldown(int ticks) {
+            this.cooldownLength = ticks;
+            return this.cooldown(true);
+        }
+
         /**
          * Sets the category of the {@link ButtonBinding}.
          *
@@ -567,6 +768,8 @@ public class ButtonBinding implements Nameable {
          */
         public ButtonBinding build() {
             var binding = new ButtonBinding(this.key, this.buttons, this.actions, this.filter, this.cooldown);
+            binding.setCooldownLength(this.cooldownLength);
+            binding.contexts = this.contexts;
             if (this.category != null)
                 this.category.registerBinding(binding);
             if (this.mcBinding != null)
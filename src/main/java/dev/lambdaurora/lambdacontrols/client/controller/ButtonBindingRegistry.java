@@ -0,0 +1,279 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Represents the registry of button bindings.
+ * <p>
+ * Bindings are kept in buckets by button count, so changing the buttons of a binding is a constant time move between buckets.
+ * The ordered view, with the bindings with the higher button counts first, is only rebuilt when read after a change,
+ * which makes bulk updates result in a single rebuild.
+ * A generation counter is incremented on every change so derived indexes know when to rebuild.
+ * Bindings are also indexed by their case-insensitive name, and by their set of buttons to find conflicts in constant time.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+final class ButtonBindingRegistry {
+    private final Set<ButtonBinding> bindings = new ReferenceOpenHashSet<>();
+    private final Map<String, ButtonBinding> byName = new Object2ObjectOpenHashMap<>();
+    private final Map<ButtonSet, ReferenceLinkedOpenHashSet<ButtonBinding>> byButtons = new Object2ObjectOpenHashMap<>();
+    private final List<ButtonBinding> registrationOrder = new ArrayList<>();
+    private final List<ReferenceLinkedOpenHashSet<ButtonBinding>> buckets = new ArrayList<>();
+    private final List<ButtonBinding> ordered = new ArrayList<>();
+    private final List<ButtonBinding> orderedView = Collections.unmodifiableList(this.ordered);
+    private boolean orderDirty = false;
+    private int generation = 0;
+
+    /**
+     * Returns whether the specified binding is registered.
+     *
+     * @param binding the binding
+     * @return {@code true} if the binding is registered, else {@code false}
+     */
+    public boolean contains(@NotNull ButtonBinding binding) {
+        return this.bindings.contains(binding);
+    }
+
+    /**
+     * Gets the binding with the specified name, ignoring case.
+     *
+     * @param name the name of the binding
+     * @return the binding if found, else {@code null}
+     */
+    public @Nullable ButtonBinding get(@NotNull String name) {
+        return this.byName.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * Registers the specified binding.
+     *
+     * @param binding the binding to register
+     * @return {@code true} if the binding was registered, or {@code false} if it was already registered
+     */
+    public boolean add(@NotNull ButtonBinding binding) {
+        if (!this.bindings.add(binding))
+            return false;
+        this.byName.putIfAbsent(binding.getName().toLowerCase(Locale.ROOT), binding);
+        this.registrationOrder.add(binding);
+        this.insert(binding);
+        this.indexButtons(binding);
+        return true;
+    }
+
+    /**
+     * Gets the bindings bound to the same set of buttons as the specified buttons, in any order.
+     *
+     * @param buttons the buttons
+     * @return the bindings bound to the buttons
+     */
+    public @NotNull Set<ButtonBinding> getBound(int[] buttons) {
+        var bound = this.byButtons.get(ButtonSet.of(buttons));
+        return bound == null ? Collections.emptySet() : Collections.unmodifiableSet(bound);
+    }
+
+    /**
+     * Gets the bindings bound to the same set of buttons as the specified binding, including itself if registered.
+     *
+     * @param binding the binding
+     * @return the bindings bound to the same buttons
+     */
+    public @NotNull Set<ButtonBinding> getBound(@NotNull ButtonBinding binding) {
+        if (binding.registryButtons == null)
+            return this.getBound(binding.getButton());
+        var bound = this.byButtons.get(binding.registryButtons);
+        return bound == null ? Collections.emptySet() : Collections.unmodifiableSet(bound);
+    }
+
+    /**
+     * Returns the groups of bound bindings sharing the same set of buttons, the same contexts and the same filter.
+     * <p>
+     * Bindings only differing by their contexts or their filter can never be active at once, so they are not in conflict.
+     *
+     * @return the conflict groups
+     */
+    public @NotNull List<List<ButtonBinding>> conflicts() {
+        var conflicts = new ArrayList<List<ButtonBinding>>();
+        for (var entry : this.byButtons.entrySet()) {
+            if (entry.getValue().size() < 2 || entry.getKey().isUnbound())
+                continue;
+            var groups = new ArrayList<List<ButtonBinding>>();
+            for (var binding : entry.getValue()) {
+                List<ButtonBinding> group = null;
+                for (int i = 0; i < groups.size() && group == null; i++) {
+                    if (areCompatible(groups.get(i).get(0), binding))
+                        group = groups.get(i);
+                }
+                if (group == null)
+                    groups.add(group = new ArrayList<>());
+                group.add(binding);
+            }
+            for (var group : groups) {
+                if (group.size() > 1)
+                    conflicts.add(List.copyOf(group));
+            }
+        }
+        return conflicts;
+    }
+
+    /**
+     * Returns whether the specified bindings would be active in the same situations if bound to the same buttons.
+     *
+     * @param binding the first binding
+     * @param other the second binding
+     * @return {@code true} if the bindings have the same contexts and filter, else {@code false}
+     */
+    static boolean areCompatible(@NotNull ButtonBinding binding, @NotNull ButtonBinding other) {
+        return binding.getContexts() == other.getContexts() && binding.filter.equals(other.filter);
+    }
+
+    private void indexButtons(@NotNull ButtonBinding binding) {
+        var key = ButtonSet.of(binding.getButton());
+        binding.registryButtons = key;
+        this.byButtons.computeIfAbsent(key, k -> new ReferenceLinkedOpenHashSet<>()).add(binding);
+    }
+
+    private void unindexButtons(@NotNull ButtonBinding binding) {
+        var bound = this.byButtons.get(binding.registryButtons);
+        if (bound != null && bound.remove(binding) && bound.isEmpty())
+            this.byButtons.remove(binding.registryButtons);
+        binding.registryButtons = null;
+    }
+
+    /**
+     * Updates the bucket of the specified binding after its buttons changed.
+     *
+     * @param binding the binding
+     */
+    public void update(@NotNull ButtonBinding binding) {
+        if (!this.contains(binding))
+            return;
+        this.unindexButtons(binding);
+        this.indexButtons(binding);
+        if (binding.registryBucket != binding.getButton().length) {
+            this.buckets.get(binding.registryBucket).remove(binding);
+            this.insert(binding);
+        } else {
+            // The order doesn't change but the buttons did.
+            this.generation++;
+        }
+    }
+
+    private void insert(@NotNull ButtonBinding binding) {
+        int bucket = binding.getButton().length;
+        while (this.buckets.size() <= bucket)
+            this.buckets.add(new ReferenceLinkedOpenHashSet<>());
+        this.buckets.get(bucket).add(binding);
+        binding.registryBucket = bucket;
+        this.orderDirty = true;
+        this.generation++;
+    }
+
+    /**
+     * Invalidates the derived data of this registry.
+     */
+    public void invalidate() {
+        this.generation++;
+    }
+
+    /**
+     * Returns the generation of this registry, which changes every time a binding is registered or changes its buttons.
+     *
+     * @return the generation
+     */
+    public int generation() {
+        return this.generation;
+    }
+
+    /**
+     * Returns the number of registered bindings.
+     *
+     * @return the binding count
+     */
+    public int size() {
+        return this.registrationOrder.size();
+    }
+
+    /**
+     * Returns the bindings in registration order.
+     *
+     * @return the bindings in registration order
+     */
+    public @NotNull List<ButtonBinding> registrationOrder() {
+        return Collections.unmodifiableList(this.registrationOrder);
+    }
+
+    /**
+     * Returns the bindings with the higher button counts first.
+     * <p>
+     * The returned list is a view which changes on the next call after a change.
+     *
+     * @return the ordered bindings
+     */
+    public @NotNull List<ButtonBinding> ordered() {
+        if (this.orderDirty) {
+            this.ordered.clear();
+            for (int bucket = this.buckets.size() - 1; bucket >= 0; bucket--)
+                this.ordered.addAll(this.buckets.get(bucket));
+            this.orderDirty = false;
+        }
+        return this.orderedView;
+    }
+
+    /**
+     * Represents a set of buttons, the buttons are sorted so the order in which they are bound doesn't matter.
+     */
+    static final class ButtonSet {
+        private final int[] buttons;
+        private final int hash;
+
+        private ButtonSet(int[] buttons) {
+            this.buttons = buttons;
+            this.hash = Arrays.hashCode(buttons);
+        }
+
+        static @NotNull ButtonSet of(int[] buttons) {
+            var sorted = buttons.clone();
+            Arrays.sort(sorted);
+            return new ButtonSet(sorted);
+        }
+
+        boolean isUnbound() {
+            return this.buttons.length == 0 || (this.buttons.length == 1 && this.buttons[0] == -1);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ButtonSet other)) return false;
+            return this.hash == other.hash && Arrays.equals(this.buttons, other.buttons);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+/**
+ * Represents the cooldowns of buttons, indexed by {@link ButtonStateTable} slots.
+ * <p>
+ * Only the buttons with a running cooldown are decremented on tick.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class ButtonCooldowns {
+    private final int[] cooldowns;
+    private final long[] active;
+
+    public ButtonCooldowns(int slots) {
+        this.cooldowns = new int[slots];
+        this.active = new long[(slots + 63) >> 6];
+    }
+
+    /**
+     * Gets the remaining cooldown of the specified button.
+     *
+     * @param button the button code
+     * @return the remaining cooldown in ticks
+     */
+    public int get(int button) {
+        int slot = ButtonStateTable.slot(button);
+        if (slot < 0 || slot >= this.cooldowns.length)
+            return 0;
+        return this.cooldowns[slot];
+    }
+
+    /**
+     * Returns whether the cooldown of the specified button has elapsed.
+     *
+     * @param button the button code
+     * @return {@code true} if the button has no running cooldown, else {@code false}
+     */
+    public boolean isElapsed(int button) {
+        return this.get(button) == 0;
+    }
+
+    /**
+     * Starts the cooldown of the specified button.
+     *
+     * @param button the button code
+     * @param ticks the length of the cooldown in ticks
+     */
+    public void start(int button, int ticks) {
+        int slot = ButtonStateTable.slot(button);
+        if (slot < 0 || slot >= this.cooldowns.length)
+            return;
+        this.cooldowns[slot] = ticks;
+        if (ticks > 0)
+            this.active[slot >> 6] |= 1L << slot;
+        else
+            this.active[slot >> 6] &= ~(1L << slot);
+    }
+
+    /**
+     * Decrements the running cooldowns.
+     */
+    public void tick() {
+        for (int word = 0; word < this.active.length; word++) {
+            long bits = this.active[word];
+            while (bits != 0) {
+                int bit = Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                int slot = (word << 6) + bit;
+                if (--this.cooldowns[slot] <= 0) {
+                    this.cooldowns[slot] = 0;
+                    this.active[word] &= ~(1L << bit);
+                }
+            }
+        }
+    }
+}
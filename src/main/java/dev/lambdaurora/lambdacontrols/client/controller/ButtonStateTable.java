@@ -0,0 +1,364 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import dev.lambdaurora.lambdacontrols.client.ButtonState;
+import it.unimi.dsi.fastutil.ints.AbstractInt2FloatMap;
+import it.unimi.dsi.fastutil.ints.AbstractInt2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2FloatMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.objects.ObjectArraySet;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+import static org.lwjgl.glfw.GLFW.GLFW_GAMEPAD_AXIS_LAST;
+import static org.lwjgl.glfw.GLFW.GLFW_GAMEPAD_BUTTON_LAST;
+
+/**
+ * Represents a dense table of button states and values.
+ * <p>
+ * Button codes (buttons and axes as buttons of each device) are mapped to canonical slots,
+ * each device owns a plane of {@value #PLANE_SIZE} slots: the buttons, then the positive axes, then the negative axes.
+ * A bitmask tracks the slots whose state is not {@link ButtonState#NONE}.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class ButtonStateTable {
+    public static final int PLANE_SIZE = 32;
+    private static final int AXIS_POSITIVE_OFFSET = 16;
+    private static final int AXIS_NEGATIVE_OFFSET = 24;
+    // ButtonState identifiers match their ordinals.
+    private static final ButtonState[] STATES = ButtonState.values();
+
+    private final byte[] states;
+    private final float[] values;
+    private final long[] active;
+
+    public ButtonStateTable(int planes) {
+        int slots = planes * PLANE_SIZE;
+        this.states = new byte[slots];
+        this.values = new float[slots];
+        this.active = new long[(slots + 63) >> 6];
+        // Matches the default value of unknown buttons.
+        Arrays.fill(this.values, 1.f);
+    }
+
+    /**
+     * Returns the canonical slot of the specified button code.
+     *
+     * @param button the button code
+     * @return the slot, or {@code -1} if the button code has no slot
+     */
+    public static int slot(int button) {
+        if (button < 0)
+            return -1;
+        int plane = ButtonBinding.getDevice(button);
+        int local = ButtonBinding.getLocalButton(button);
+        int index;
+        if (local <= GLFW_GAMEPAD_BUTTON_LAST)
+            index = local;
+        else if (local >= 100 && local <= 100 + GLFW_GAMEPAD_AXIS_LAST)
+            index = AXIS_POSITIVE_OFFSET + local - 100;
+        else if (local >= 200 && local <= 200 + GLFW_GAMEPAD_AXIS_LAST)
+            index = AXIS_NEGATIVE_OFFSET + local - 200;
+        else
+            return -1;
+        return plane * PLANE_SIZE + index;
+    }
+
+    /**
+     * Returns the button code of the specified canonical slot.
+     *
+     * @param slot the slot
+     * @return the button code, or {@code -1} if the slot is unused
+     */
+    public static int button(int slot) {
+        int plane = slot / PLANE_SIZE;
+        int index = slot % PLANE_SIZE;
+        int local;
+        if (index <= GLFW_GAMEPAD_BUTTON_LAST)
+            local = index;
+        else if (index >= AXIS_POSITIVE_OFFSET && index <= AXIS_POSITIVE_OFFSET + GLFW_GAMEPAD_AXIS_LAST)
+            local = 100 + index - AXIS_POSITIVE_OFFSET;
+        else if (index >= AXIS_NEGATIVE_OFFSET && index <= AXIS_NEGATIVE_OFFSET + GLFW_GAMEPAD_AXIS_LAST)
+            local = 200 + index - AXIS_NEGATIVE_OFFSET;
+        else
+            return -1;
+        return ButtonBinding.deviceButton(plane, local);
+    }
+
+    /**
+     * Returns the number of slots of this table.
+     *
+     * @return the slot count
+     */
+    public int size() {
+        return this.states.length;
+    }
+
+    private boolean isValid(int slot) {
+        return slot >= 0 && slot < this.states.length;
+    }
+
+    /**
+     * Gets the state of the specified button.
+     *
+     * @param button the button code
+     * @return the state of the button
+     */
+    public @NotNull ButtonState getState(int button) {
+        return this.getSlotState(slot(button));
+    }
+
+    /**
+     * Gets the state of the specified slot.
+     *
+     * @param slot the slot
+     * @return the state of the slot
+     */
+    public @NotNull ButtonState getSlotState(int slot) {
+        if (!this.isValid(slot))
+            return ButtonState.NONE;
+        return STATES[this.states[slot]];
+    }
+
+    /**
+     * Sets the state of the specified button.
+     *
+     * @param button the button code
+     * @param state the new state
+     */
+    public void setState(int button, @NotNull ButtonState state) {
+        this.setSlotState(slot(button), state);
+    }
+
+    /**
+     * Sets the state of the specified slot.
+     *
+     * @param slot the slot
+     * @param state the new state
+     */
+    public void setSlotState(int slot, @NotNull ButtonState state) {
+        if (!this.isValid(slot))
+            return;
+        this.states[slot] = (byte) state.id;
+        if (state == ButtonState.NONE)
+            this.active[slot >> 6] &= ~(1L << slot);
+        else
+            this.active[slot >> 6] |= 1L << slot;
+    }
+
+    /**
+     * Gets the value of the specified button.
+     *
+     * @param button the button code
+     * @return the value of the button
+     */
+    public float getValue(int button) {
+        int slot = slot(button);
+        if (!this.isValid(slot))
+            return 1.f;
+        return this.values[slot];
+    }
+
+    /**
+     * Sets the value of the specified button.
+     *
+     * @param button the button code
+     * @param value the new value
+     */
+    public void setValue(int button, float value) {
+        int slot = slot(button);
+        if (this.isValid(slot))
+            this.values[slot] = value;
+    }
+
+    /**
+     * Returns whether the specified slot has a state other than {@link ButtonState#NONE}.
+     *
+     * @param slot the slot
+     * @return {@code true} if the slot is active, else {@code false}
+     */
+    public boolean isActive(int slot) {
+        return this.isValid(slot) && (this.active[slot >> 6] & (1L << slot)) != 0;
+    }
+
+    /**
+     * Returns the next active slot starting from the specified slot.
+     *
+     * @param from the first slot to check
+     * @return the next active slot, or {@code -1} if none
+     */
+    public int nextActiveSlot(int from) {
+        if (from < 0)
+            from = 0;
+        int word = from >> 6;
+        if (word >= this.active.length)
+            return -1;
+        long bits = this.active[word] & (-1L << from);
+        while (bits == 0) {
+            if (++word == this.active.length)
+                return -1;
+            bits = this.active[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Returns whether all buttons are unpressed.
+     *
+     * @return {@code true} if no button is pressed, else {@code false}
+     */
+    public boolean isAllUnpressed() {
+        for (int slot = this.nextActiveSlot(0); slot != -1; slot = this.nextActiveSlot(slot + 1)) {
+            if (STATES[this.states[slot]].isPressed())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Updates the states: pressed buttons become repeated, and released buttons become unpressed.
+     */
+    public void update() {
+        for (int slot = this.nextActiveSlot(0); slot != -1; slot = this.nextActiveSlot(slot + 1)) {
+            byte state = this.states[slot];
+            if (state == ButtonState.PRESS.id)
+                this.states[slot] = (byte) ButtonState.REPEAT.id;
+            else if (state == ButtonState.RELEASE.id)
+                this.setSlotState(slot, ButtonState.NONE);
+        }
+    }
+
+    /**
+     * Returns a map view of the states of this table, indexed by button code.
+     *
+     * @return the states view
+     */
+    public @NotNull Int2ObjectMap<ButtonState> statesView() {
+        return new StatesView();
+    }
+
+    /**
+     * Returns a map view of the values of this table, indexed by button code.
+     *
+     * @return the values view
+     */
+    public @NotNull Int2FloatMap valuesView() {
+        return new ValuesView();
+    }
+
+    private int validButtonCount() {
+        int count = 0;
+        for (int slot = 0; slot < this.states.length; slot++) {
+            if (button(slot) != -1)
+                count++;
+        }
+        return count;
+    }
+
+    private class StatesView extends AbstractInt2ObjectMap<ButtonState> {
+        @Override
+        public int size() {
+            return ButtonStateTable.this.validButtonCount();
+        }
+
+        @Override
+        public boolean containsKey(int key) {
+            return ButtonStateTable.this.isValid(slot(key));
+        }
+
+        @Override
+        public ButtonState get(int key) {
+            int slot = slot(key);
+            if (!ButtonStateTable.this.isValid(slot))
+                return this.defRetValue;
+            return ButtonStateTable.this.getSlotState(slot);
+        }
+
+        @Override
+        public ButtonState getOrDefault(int key, ButtonState defaultValue) {
+            int slot = slot(key);
+            if (!ButtonStateTable.this.isValid(slot))
+                return defaultValue;
+            return ButtonStateTable.this.getSlotState(slot);
+        }
+
+        @Override
+        public ButtonState put(int key, ButtonState value) {
+            var previous = this.get(key);
+            ButtonStateTable.this.setState(key, value);
+            return previous;
+        }
+
+        @Override
+        public ObjectSet<Int2ObjectMap.Entry<ButtonState>> int2ObjectEntrySet() {
+            var entries = new Object[ButtonStateTable.this.validButtonCount()];
+            int count = 0;
+            for (int slot = 0; slot < ButtonStateTable.this.states.length; slot++) {
+                int button = button(slot);
+                if (button != -1)
+                    entries[count++] = new AbstractInt2ObjectMap.BasicEntry<>(button, ButtonStateTable.this.getSlotState(slot));
+            }
+            return new ObjectArraySet<>(entries, count);
+        }
+    }
+
+    private class ValuesView extends AbstractInt2FloatMap {
+        @Override
+        public int size() {
+            return ButtonStateTable.this.validButtonCount();
+        }
+
+        @Override
+        public boolean containsKey(int key) {
+            return ButtonStateTable.this.isValid(slot(key));
+        }
+
+        @Override
+        public float get(int key) {
+            int slot = slot(key);
+            if (!ButtonStateTable.this.isValid(slot))
+                return this.defRetValue;
+            return ButtonStateTable.this.values[slot];
+        }
+
+        @Override
+        public float getOrDefault(int key, float defaultValue) {
+            int slot = slot(key);
+            if (!ButtonStateTable.this.isValid(slot))
+                return defaultValue;
+            return ButtonStateTable.this.values[slot];
+        }
+
+        @Override
+        public float put(int key, float value) {
+            float previous = this.get(key);
+            ButtonStateTable.this.setValue(key, value);
+            return previous;
+        }
+
+        @Override
+        public ObjectSet<Int2FloatMap.Entry> int2FloatEntrySet() {
+            var entries = new Object[ButtonStateTable.this.validButtonCount()];
+            int count = 0;
+            for (int slot = 0; slot < ButtonStateTable.this.states.length; slot++) {
+                int button = button(slot);
+                if (button != -1)
+                    entries[count++] = new AbstractInt2FloatMap.BasicEntry(button, ButtonStateTable.this.values[slot]);
+            }
+            return new ObjectArraySet<>(entries, count);
+        }
+    }
+}
@@ -12,36 +12,50 @@ package dev.lambdaurora.lambdacontrols.client.controller;
 import dev.lambdaurora.lambdacontrols.LambdaControls;
 import dev.lambdaurora.lambdacontrols.client.LambdaControlsClient;
 import net.minecraft.client.MinecraftClient;
-import net.minecraft.client.toast.SystemToast;
-import net.minecraft.text.LiteralText;
-import net.minecraft.text.TranslatableText;
 import org.aperlambda.lambdacommon.utils.Nameable;
 import org.jetbrains.annotations.NotNull;
 import org.lwjgl.glfw.GLFW;
 import org.lwjgl.glfw.GLFWGamepadState;
-import org.lwjgl.system.MemoryStack;
 import org.lwjgl.system.MemoryUtil;
 
-import java.io.IOException;
-import java.nio.ByteBuffer;
-import java.nio.file.Files;
-import java.nio.file.Paths;
-import java.util.Comparator;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
-
-import static org.lwjgl.BufferUtils.createByteBuffer;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Represents a controller.
+ * <p>
+ * Each controller owns two gamepad state buffers which are swapped on every sample,
+ * so sampling doesn't allocate and the previous sample stays available for diffing.
+ * The metadata of the controller is read from the {@link ControllerRegistry}.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.0.0
  */
-public record Controller(int id) implements Nameable {
-    private static final Map<Integer, Controller> CONTROLLERS = new HashMap<>();
+public final class Controller implements Nameable {
+    private static final Controller[] CONTROLLERS = new Controller[GLFW.GLFW_JOYSTICK_LAST + 1];
+
+    static {
+        for (int id = 0; id < CONTROLLERS.length; id++)
+            CONTROLLERS[id] = new Controller(id);
+    }
+
+    private final int id;
+    private GLFWGamepadState state = GLFWGamepadState.create();
+    private GLFWGamepadState previousState = GLFWGamepadState.create();
+
+    public Controller(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the identifier of this controller.
+     *
+     * @return the controller's identifier
+     */
+    public int id() {
+        return this.id;
+    }
 
     /**
      * Gets the controller's globally unique identifier.
@@ -49,8 +63,7 @@ public record Controller(int id) implements Nameable {
      * @return the controller's GUID
      */
     public String getGuid() {
-        String guid = GLFW.glfwGetJoystickGUID(this.id);
-        return guid == null ? "" : guid;
+        return ControllerRegistry.get(this.id).guid();
     }
 
     /**
@@ -59,7 +72,7 @@ public record Controller(int id) implements Nameable {
      * @return true if this controller is connected, else false
      */
     public boolean isConnected() {
-        return GLFW.glfwJoystickPresent(this.id);
+        return ControllerRegistry.get(this.id).connected();
     }
 
     /**
@@ -68,7 +81,7 @@ public record Controller(int id) implements Nameable {
      * @return true if this controller is a gamepad, else false
      */
     public boolean isGamepad() {
-        return this.isConnected() && GLFW.glfwJoystickIsGamepad(this.id);
+        return ControllerRegistry.get(this.id).gamepad();
     }
 
     /**
@@ -78,97 +91,83 @@ public record Controller(int id) implements Nameable {
      */
     @Override
     public String getName() {
-        var name = this.isGamepad() ? GLFW.glfwGetGamepadName(this.id) : GLFW.glfwGetJoystickName(this.id);
-        return name == null ? String.valueOf(this.id()) : name;
+        return ControllerRegistry.get(this.id).name();
     }
 
     /**
-     * Gets the state of the controller.
+     * Samples the state of the controller.
+     * <p>
+     * The returned state is owned by this controller and is only valid until the next sample.
      *
      * @return the state of the controller input
      */
     public GLFWGamepadState getState() {
-        var state = GLFWGamepadState.create();
-        if (this.isGamepad())
-            GLFW.glfwGetGamepadState(this.id, state);
+        var state = this.previousState;
+        this.previousState = this.state;
+        this.state = state;
+        if (!this.isGamepad() || !GLFW.glfwGetGamepadState(this.id, state))
+            MemoryUtil.memSet(state.address(), 0, GLFWGamepadState.SIZEOF);
         return state;
     }
 
+    /**
+     * Gets the state of the controller before the last sample.
+     *
+     * @return the previous state of the controller input
+     * @see #getState()
+     */
+    public GLFWGamepadState getPreviousState() {
+        return this.previousState;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        return this.id == ((Controller) o).id;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(this.id);
+    }
+
+    @Override
+    public String toString() {
+        return "Controller[id=" + this.id + "]";
+    }
+
     public static Controller byId(int id) {
         if (id > GLFW.GLFW_JOYSTICK_LAST) {
             LambdaControlsClient.get().log("Controller '" + id + "' doesn't exist.");
             id = GLFW.GLFW_JOYSTICK_LAST;
         }
-        Controller controller;
-        if (CONTROLLERS.containsKey(id))
-            return CONTROLLERS.get(id);
-        else {
-            controller = new Controller(id);
-            CONTROLLERS.put(id, controller);
-            return controller;
-        }
+        return CONTROLLERS[id];
     }
 
     public static Optional<Controller> byGuid(@NotNull String guid) {
-        return CONTROLLERS.values().stream().filter(Controller::isConnected)
-                .filter(controller -> controller.getGuid().equals(guid))
-                .max(Comparator.comparingInt(Controller::id));
+        var info = ControllerRegistry.getByGuid(guid);
+        return info == null ? Optional.empty() : Optional.of(CONTROLLERS[info.id()]);
     }
 
     /**
-     * Reads the specified resource and returns the raw data as a ByteBuffer.
+     * Updates the controller mappings.
+     * <p>
+     * The mappings file is read in the background, the mappings are applied on the client thread once ready.
      *
-     * @param resource the resource to read
-     * @param bufferSize the initial buffer size
-     * @return the resource data
-     * @throws IOException If an IO error occurs.
+     * @return the future completed once the mappings are applied
      */
-    private static ByteBuffer ioResourceToBuffer(String resource, int bufferSize) throws IOException {
-        ByteBuffer buffer = null;
-
-        var path = Paths.get(resource);
-        if (Files.isReadable(path)) {
-            try (var fc = Files.newByteChannel(path)) {
-                buffer = createByteBuffer((int) fc.size() + 2);
-                while (fc.read(buffer) != -1) ;
-                buffer.put((byte) 0);
-            }
-        }
-
-        buffer.flip(); // Force Java 8 >.<
-        return buffer;
+    public static @NotNull CompletableFuture<Void> updateMappings() {
+        if (!LambdaControlsClient.MAPPINGS_FILE.exists())
+            return CompletableFuture.completedFuture(null);
+        LambdaControlsClient.get().log("Updating controller mappings...");
+        return ControllerMappings.update(MinecraftClient.getInstance(), LambdaControlsClient.MAPPINGS_FILE.toPath());
     }
 
     /**
-     * Updates the controller mappings.
+     * Logs the connected controllers if debug is enabled.
      */
-    public static void updateMappings() {
-        try {
-            if (!LambdaControlsClient.MAPPINGS_FILE.exists())
-                return;
-            LambdaControlsClient.get().log("Updating controller mappings...");
-            var buffer = ioResourceToBuffer(LambdaControlsClient.MAPPINGS_FILE.getPath(), 1024);
-            GLFW.glfwUpdateGamepadMappings(buffer);
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
-
-        try (var memoryStack = MemoryStack.stackPush()) {
-            var pointerBuffer = memoryStack.mallocPointer(1);
-            int i = GLFW.glfwGetError(pointerBuffer);
-            if (i != 0) {
-                long l = pointerBuffer.get();
-                var string = l == 0L ? "" : MemoryUtil.memUTF8(l);
-                var client = MinecraftClient.getInstance();
-                if (client != null) {
-                    client.getToastManager().add(SystemToast.create(client, SystemToast.Type.TUTORIAL_HINT,
-                            new TranslatableText("lambdacontrols.controller.mappings.error"), new LiteralText(string)));
-                }
-            }
-        } catch (Throwable e) {
-            /* Ignored :concern: */
-        }
-
+    static void logConnectedControllers() {
         if (LambdaControlsClient.get().config.hasDebug()) {
             for (int i = GLFW.GLFW_JOYSTICK_1; i <= GLFW.GLFW_JOYSTICK_16; i++) {
                 var controller = byId(i);
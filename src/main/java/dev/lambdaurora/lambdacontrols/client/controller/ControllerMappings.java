@@ -0,0 +1,359 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import dev.lambdaurora.lambdacontrols.client.LambdaControlsClient;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectOpenHashSet;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.toast.SystemToast;
+import net.minecraft.text.LiteralText;
+import net.minecraft.text.TranslatableText;
+import net.minecraft.util.Util;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.BufferUtils;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.system.MemoryStack;
+import org.lwjgl.system.MemoryUtil;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Represents the controller mappings database.
+ * <p>
+ * The database file is memory-mapped and indexed by GUID on a background thread: comments, malformed lines and mappings
+ * for other platforms are dropped. The index is cached in a compact binary file next to the database, read as a stream
+ * and reused as long as the database file doesn't change.
+ * <p>
+ * Only the mappings of the connected controllers are handed to GLFW, on the client thread,
+ * the mapping of a controller connected later is submitted when it gets connected.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class ControllerMappings {
+    private static final int GUID_LENGTH = 32;
+    private static final String PLATFORM_FIELD = "platform:";
+    private static final int INDEX_MAGIC = 0x4C434D49; // LCMI
+    private static final int INDEX_VERSION = 1;
+    private static volatile Map<String, String> index = Collections.emptyMap();
+    // Only accessed from the client thread.
+    private static final Set<String> SUBMITTED = new ObjectOpenHashSet<>();
+
+    private ControllerMappings() {
+    }
+
+    /**
+     * Indexes the mappings from the specified file in the background
+     * and submits the mappings of the connected controllers on the client thread.
+     *
+     * @param client the client instance
+     * @param file the mappings file
+     * @return the future completed once the mappings are submitted
+     */
+    public static @NotNull CompletableFuture<Void> update(@NotNull MinecraftClient client, @NotNull Path file) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(() -> loadIndex(file), Util.getIoWorkerExecutor())
+                .thenAcceptAsync(loaded -> {
+                    if (loaded == null)
+                        return;
+                    long applyStart = System.nanoTime();
+                    index = loaded.mappings();
+                    SUBMITTED.clear();
+                    var guids = new ArrayList<String>();
+                    for (int jid = GLFW.GLFW_JOYSTICK_1; jid <= GLFW.GLFW_JOYSTICK_LAST; jid++) {
+                        if (GLFW.glfwJoystickPresent(jid))
+                            guids.add(GLFW.glfwGetJoystickGUID(jid));
+                    }
+                    int submitted = submit(client, guids);
+                    long end = System.nanoTime();
+                    LambdaControlsClient.get().log(String.format("Indexed %d controller mappings (%s, %d skipped) and submitted %d in %.2fms, %.2fms spent on the client thread.",
+                            loaded.mappings().size(), loaded.cached() ? "cached" : "parsed", loaded.skipped(), submitted,
+                            (end - start) / 1_000_000.0, (end - applyStart) / 1_000_000.0));
+                    Controller.logConnectedControllers();
+                }, client);
+    }
+
+    /**
+     * Submits the mapping of the specified controller if it wasn't already. Must be called on the client thread.
+     *
+     * @param client the client instance
+     * @param jid the identifier of the connected controller
+     */
+    public static void onControllerConnected(@NotNull MinecraftClient client, int jid) {
+        var guid = GLFW.glfwGetJoystickGUID(jid);
+        if (guid != null && submit(client, List.of(guid)) != 0 && LambdaControlsClient.get().config.hasDebug())
+            LambdaControlsClient.get().log("Submitted the mapping of controller #" + jid + " (" + guid + ").");
+    }
+
+    private static int submit(@NotNull MinecraftClient client, @NotNull List<String> guids) {
+        var mappings = index;
+        var lines = new StringBuilder();
+        int count = 0;
+        for (var guid : guids) {
+            if (guid == null)
+                continue;
+            var key = guid.toLowerCase(Locale.ROOT);
+            var mapping = mappings.get(key);
+            if (mapping != null && SUBMITTED.add(key)) {
+                lines.append(mapping).append('\n');
+                count++;
+            }
+        }
+        if (count == 0)
+            return 0;
+
+        var bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+        var buffer = BufferUtils.createByteBuffer(bytes.length + 1);
+        buffer.put(bytes).put((byte) 0).flip();
+        apply(client, buffer);
+        return count;
+    }
+
+    private static @Nullable Index loadIndex(@NotNull Path file) {
+        if (!Files.isReadable(file))
+            return null;
+
+        var indexFile = file.resolveSibling(file.getFileName() + ".index");
+        try {
+            long size = Files.size(file);
+            long modified = Files.getLastModifiedTime(file).toMillis();
+            var platform = Objects.requireNonNullElse(getPlatform(), "");
+
+            var cached = readIndex(indexFile, size, modified, platform);
+            if (cached != null)
+                return new Index(cached, true, 0);
+
+            var loaded = parse(file);
+            try {
+                writeIndex(indexFile, size, modified, platform, loaded.mappings());
+            } catch (IOException e) {
+                LambdaControlsClient.get().warn("Failed to write the controller mappings index: " + e.getMessage());
+            }
+            return loaded;
+        } catch (IOException e) {
+            LambdaControlsClient.get().warn("Failed to read the controller mappings: " + e.getMessage());
+            return null;
+        }
+    }
+
+    private static @NotNull Index parse(@NotNull Path file) throws IOException {
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var source = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            var platform = getPlatform();
+            var mappings = new Object2ObjectOpenHashMap<String, String>();
+            int skipped = 0;
+            int lineStart = 0;
+            while (lineStart < source.limit()) {
+                int lineEnd = lineStart;
+                while (lineEnd < source.limit() && source.get(lineEnd) != '\n')
+                    lineEnd++;
+
+                int contentEnd = lineEnd;
+                if (contentEnd > lineStart && source.get(contentEnd - 1) == '\r')
+                    contentEnd--;
+                if (contentEnd > lineStart && source.get(lineStart) != '#') {
+                    if (isValidMapping(source, lineStart, contentEnd, platform)) {
+                        var guid = StandardCharsets.US_ASCII.decode(source.slice(lineStart, GUID_LENGTH)).toString().toLowerCase(Locale.ROOT);
+                        mappings.put(guid, StandardCharsets.UTF_8.decode(source.slice(lineStart, contentEnd - lineStart)).toString());
+                    } else {
+                        skipped++;
+                    }
+                }
+                lineStart = lineEnd + 1;
+            }
+            return new Index(mappings, false, skipped);
+        }
+    }
+
+    private static @Nullable Map<String, String> readIndex(@NotNull Path indexFile, long size, long modified, @NotNull String platform) {
+        if (!Files.isRegularFile(indexFile))
+            return null;
+        // The index is read as a stream: a mapping would keep the file open and prevent writeIndex from replacing it on Windows.
+        try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(indexFile)))) {
+            if (in.readInt() != INDEX_MAGIC || in.readInt() != INDEX_VERSION || in.readLong() != size || in.readLong() != modified
+                    || !readString(in).equals(platform))
+                return null;
+
+            int count = in.readInt();
+            var mappings = new Object2ObjectOpenHashMap<String, String>(count);
+            var guid = new StringBuilder(GUID_LENGTH);
+            for (int i = 0; i < count; i++) {
+                guid.setLength(0);
+                for (int j = 0; j < GUID_LENGTH / 2; j++) {
+                    int value = in.readUnsignedByte();
+                    guid.append(Character.forDigit(value >> 4, 16)).append(Character.forDigit(value & 0xf, 16));
+                }
+                mappings.put(guid.toString(), readString(in));
+            }
+            return mappings;
+        } catch (IOException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void writeIndex(@NotNull Path indexFile, long size, long modified, @NotNull String platform,
+                                   @NotNull Map<String, String> mappings) throws IOException {
+        var tempFile = indexFile.resolveSibling(indexFile.getFileName() + ".tmp");
+        try (var out = new DataOutputStream(Files.newOutputStream(tempFile))) {
+            out.writeInt(INDEX_MAGIC);
+            out.writeInt(INDEX_VERSION);
+            out.writeLong(size);
+            out.writeLong(modified);
+            writeString(out, platform);
+            out.writeInt(mappings.size());
+            for (var entry : mappings.entrySet()) {
+                // GUIDs are stored as their 16 raw bytes.
+                var guid = entry.getKey();
+                for (int i = 0; i < GUID_LENGTH; i += 2)
+                    out.writeByte((Character.digit(guid.charAt(i), 16) << 4) | Character.digit(guid.charAt(i + 1), 16));
+                writeString(out, entry.getValue());
+            }
+        }
+        try {
+            Files.move(tempFile, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static String readString(@NotNull DataInputStream in) throws IOException {
+        var bytes = new byte[in.readUnsignedShort()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(@NotNull DataOutputStream out, @NotNull String value) throws IOException {
+        var bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Returns whether the specified line is a valid mapping for the current platform.
+     *
+     * @param source the source buffer
+     * @param start the start of the line
+     * @param end the end of the line
+     * @param platform the name of the current platform as written in mappings
+     * @return true if the line is a valid mapping for the current platform, else false
+     */
+    static boolean isValidMapping(@NotNull ByteBuffer source, int start, int end, @Nullable String platform) {
+        // GUID, name, then at least one element.
+        if (end - start <= GUID_LENGTH + 2 || source.get(start + GUID_LENGTH) != ',')
+            return false;
+        for (int i = start; i < start + GUID_LENGTH; i++) {
+            if (Character.digit(source.get(i), 16) == -1)
+                return false;
+        }
+        int nameEnd = indexOf(source, (byte) ',', start + GUID_LENGTH + 1, end);
+        if (nameEnd == -1)
+            return false;
+
+        if (platform == null)
+            return true;
+        int field = indexOf(source, PLATFORM_FIELD, nameEnd, end);
+        if (field == -1)
+            return true;
+        int valueStart = field + PLATFORM_FIELD.length();
+        int valueEnd = indexOf(source, (byte) ',', valueStart, end);
+        if (valueEnd == -1)
+            valueEnd = end;
+        if (valueEnd - valueStart != platform.length())
+            return false;
+        for (int i = 0; i < platform.length(); i++) {
+            if (source.get(valueStart + i) != platform.charAt(i))
+                return false;
+        }
+        return true;
+    }
+
+    private static int indexOf(@NotNull ByteBuffer source, byte value, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (source.get(i) == value)
+                return i;
+        }
+        return -1;
+    }
+
+    private static int indexOf(@NotNull ByteBuffer source, @NotNull String value, int start, int end) {
+        for (int i = start; i <= end - value.length(); i++) {
+            int j = 0;
+            while (j < value.length() && source.get(i + j) == value.charAt(j))
+                j++;
+            if (j == value.length())
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the name of the current platform as written in mappings.
+     *
+     * @return the platform name, or {@code null} if unknown
+     */
+    static @Nullable String getPlatform() {
+        return switch (Util.getOperatingSystem()) {
+            case WINDOWS -> "Windows";
+            case OSX -> "Mac OS X";
+            case LINUX -> "Linux";
+            default -> null;
+        };
+    }
+
+    /**
+     * Applies the specified mappings. Must be called on the client thread.
+     *
+     * @param client the client instance
+     * @param buffer the NUL-terminated mappings
+     */
+    static void apply(@NotNull MinecraftClient client, @NotNull ByteBuffer buffer) {
+        GLFW.glfwUpdateGamepadMappings(buffer);
+        // The mappings affect the gamepad flag and name of the connected controllers.
+        ControllerRegistry.refreshAll();
+
+        try (var memoryStack = MemoryStack.stackPush()) {
+            var pointerBuffer = memoryStack.mallocPointer(1);
+            int i = GLFW.glfwGetError(pointerBuffer);
+            if (i != 0) {
+                long l = pointerBuffer.get();
+                var string = l == 0L ? "" : MemoryUtil.memUTF8(l);
+                client.getToastManager().add(SystemToast.create(client, SystemToast.Type.TUTORIAL_HINT,
+                        new TranslatableText("lambdacontrols.controller.mappings.error"), new LiteralText(string)));
+            }
+        } catch (Throwable e) {
+            /* Ignored :concern: */
+        }
+    }
+
+    private record Index(Map<String, String> mappings, boolean cached, int skipped) {
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import dev.lambdaurora.lambdacontrols.client.LambdaControlsClient;
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+import org.lwjgl.glfw.GLFWGamepadState;
+import org.lwjgl.system.MemoryUtil;
+
+import java.util.Arrays;
+
+/**
+ * Represents a high-frequency controller sampler.
+ * <p>
+ * GLFW only allows the joystick functions on the main thread, so the controllers are sampled on the client thread
+ * on every tick and every render frame, at most at the configured rate.
+ * The latest sample of each controller is then used instead of a tick-rate sample.
+ * Every button press and release found while sampling is recorded in an {@link InputEventQueue} with the time of its sample,
+ * so taps shorter than a tick are not lost.
+ * <p>
+ * All the methods must be called from the client thread.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class ControllerPoller {
+    private static final int JOYSTICK_COUNT = GLFW.GLFW_JOYSTICK_LAST + 1;
+    private static final int EDGE_CAPACITY = 256;
+
+    private final GLFWGamepadState sample = GLFWGamepadState.create();
+    private final GLFWGamepadState[] latest = new GLFWGamepadState[JOYSTICK_COUNT];
+    private final boolean[] hasSample = new boolean[JOYSTICK_COUNT];
+    private final InputEventQueue edges = new InputEventQueue(EDGE_CAPACITY);
+    private final int[] trackedScratch = new int[JOYSTICK_COUNT];
+    private int[] controllers = new int[0];
+    private int rate = 0;
+    private long lastPoll;
+
+    /**
+     * Returns whether the poller is currently sampling controllers.
+     *
+     * @return {@code true} if the poller is running, else {@code false}
+     */
+    public boolean isRunning() {
+        return this.rate > 0;
+    }
+
+    /**
+     * Sets the polling rate, starting or stopping the poller if needed.
+     *
+     * @param rate the polling rate in hertz, {@code 0} to disable the poller
+     */
+    public void setRate(int rate) {
+        rate = Math.max(0, rate);
+        if (rate == this.rate)
+            return;
+
+        boolean wasRunning = this.isRunning();
+        this.rate = rate;
+        if (!this.isRunning()) {
+            LambdaControlsClient.get().log("Stopped controller polling.");
+        } else {
+            if (!wasRunning) {
+                Arrays.fill(this.hasSample, false);
+                this.edges.clear();
+                this.lastPoll = System.nanoTime() - 1_000_000_000L / rate;
+            }
+            LambdaControlsClient.get().log("Started controller polling at " + rate + "Hz.");
+        }
+    }
+
+    /**
+     * Sets the controllers to sample, does nothing if they are already the sampled ones.
+     *
+     * @param devices the bound devices, {@code null} entries are ignored
+     */
+    public void track(@NotNull Controller[] devices) {
+        int count = 0;
+        for (var device : devices) {
+            if (device == null)
+                continue;
+            int id = device.id();
+            boolean tracked = false;
+            for (int i = 0; i < count && !tracked; i++)
+                tracked = this.trackedScratch[i] == id;
+            if (!tracked)
+                this.trackedScratch[count++] = id;
+        }
+        var current = this.controllers;
+        if (Arrays.equals(current, 0, current.length, this.trackedScratch, 0, count))
+            return;
+        this.controllers = Arrays.copyOf(this.trackedScratch, count);
+    }
+
+    /**
+     * Samples the tracked controllers if a sample is due at the polling rate.
+     */
+    public void poll() {
+        int rate = this.rate;
+        if (rate <= 0)
+            return;
+        long now = System.nanoTime();
+        if (now - this.lastPoll < 1_000_000_000L / rate)
+            return;
+        this.lastPoll = now;
+
+        for (int id : this.controllers) {
+            if (!GLFW.glfwGetGamepadState(id, this.sample))
+                MemoryUtil.memSet(this.sample.address(), 0, GLFWGamepadState.SIZEOF);
+
+            var state = this.latest[id];
+            if (state == null)
+                state = this.latest[id] = GLFWGamepadState.create();
+
+            for (int i = 0; i <= GLFW.GLFW_GAMEPAD_BUTTON_LAST; i++) {
+                boolean pressed = this.sample.buttons(i) == GLFW.GLFW_PRESS;
+                boolean wasPressed = this.hasSample[id] && state.buttons(i) == GLFW.GLFW_PRESS;
+                if (pressed != wasPressed)
+                    this.edges.push(id, i, pressed, now);
+            }
+
+            MemoryUtil.memCopy(this.sample.address(), state.address(), GLFWGamepadState.SIZEOF);
+            this.hasSample[id] = true;
+        }
+    }
+
+    /**
+     * Returns the button edges sampled since they were last cleared.
+     * <p>
+     * The consumer of the edges is responsible for clearing the queue.
+     *
+     * @return the button edges
+     */
+    public @NotNull InputEventQueue edges() {
+        return this.edges;
+    }
+
+    /**
+     * Consumes the latest sample of the specified controller.
+     *
+     * @param id the controller identifier
+     * @param out the state to write into
+     * @return {@code true} if a sample was available, else {@code false}
+     */
+    public boolean consume(int id, @NotNull GLFWGamepadState out) {
+        this.poll();
+        if (!this.hasSample[id])
+            return false;
+        MemoryUtil.memCopy(this.latest[id].address(), out.address(), GLFWGamepadState.SIZEOF);
+        return true;
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import dev.lambdaurora.lambdacontrols.client.event.ControllerConnectionCallback;
+import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.lwjgl.glfw.GLFW;
+
+import java.util.Map;
+
+/**
+ * Represents the registry of the metadata of the controllers.
+ * <p>
+ * The GUID, name, gamepad flag and connection state of each joystick are snapshotted from GLFW when the joystick is connected,
+ * disconnected or when the mappings change, so looking them up never hits GLFW.
+ * The snapshots are immutable and published as a whole, they can be read from any thread.
+ * Connections and disconnections are notified through {@link ControllerConnectionCallback#EVENT}.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class ControllerRegistry {
+    private static volatile Info[] infos = new Info[GLFW.GLFW_JOYSTICK_LAST + 1];
+    private static volatile Map<String, Info> byGuid = Map.of();
+
+    static {
+        var infos = ControllerRegistry.infos;
+        for (int id = 0; id < infos.length; id++)
+            infos[id] = Info.disconnected(id);
+    }
+
+    private ControllerRegistry() {
+    }
+
+    /**
+     * Returns the metadata of the specified joystick.
+     *
+     * @param id the identifier of the joystick
+     * @return the metadata of the joystick
+     */
+    public static @NotNull Info get(int id) {
+        return infos[id];
+    }
+
+    /**
+     * Returns the metadata of the connected joystick with the specified GUID.
+     * If several connected joysticks share the GUID, the one with the highest identifier is returned.
+     *
+     * @param guid the GUID of the joystick
+     * @return the metadata of the joystick, or {@code null} if no connected joystick has this GUID
+     */
+    public static @Nullable Info getByGuid(@NotNull String guid) {
+        return byGuid.get(guid);
+    }
+
+    /**
+     * Handles a joystick event from GLFW. Must be called on the client thread.
+     *
+     * @param id the identifier of the joystick
+     * @param event the GLFW event, either {@link GLFW#GLFW_CONNECTED} or {@link GLFW#GLFW_DISCONNECTED}
+     */
+    public static void onJoystickEvent(int id, int event) {
+        var info = event == GLFW.GLFW_CONNECTED ? query(id) : Info.disconnected(id);
+        publish(id, info);
+        ControllerConnectionCallback.EVENT.invoker().apply(info);
+    }
+
+    /**
+     * Snapshots the metadata of every joystick again, without emitting events. Must be called on the client thread.
+     */
+    public static void refreshAll() {
+        var infos = new Info[ControllerRegistry.infos.length];
+        for (int id = 0; id < infos.length; id++)
+            infos[id] = query(id);
+        publish(infos);
+    }
+
+    private static void publish(int id, @NotNull Info info) {
+        var infos = ControllerRegistry.infos.clone();
+        infos[id] = info;
+        publish(infos);
+    }
+
+    private static void publish(@NotNull Info[] infos) {
+        var byGuid = new Object2ObjectOpenHashMap<String, Info>();
+        for (var info : infos) {
+            // Later identifiers override earlier ones.
+            if (info.connected())
+                byGuid.put(info.guid(), info);
+        }
+        ControllerRegistry.infos = infos;
+        ControllerRegistry.byGuid = byGuid;
+    }
+
+    private static @NotNull Info query(int id) {
+        if (!GLFW.glfwJoystickPresent(id))
+            return Info.disconnected(id);
+        var guid = GLFW.glfwGetJoystickGUID(id);
+        boolean gamepad = GLFW.glfwJoystickIsGamepad(id);
+        var name = gamepad ? GLFW.glfwGetGamepadName(id) : GLFW.glfwGetJoystickName(id);
+        return new Info(id, true, guid == null ? "" : guid, name == null ? String.valueOf(id) : name, gamepad);
+    }
+
+    /**
+     * Represents the metadata of a joystick.
+     *
+     * @param id the identifier of the joystick
+     * @param connected true if the joystick is connected, else false
+     * @param guid the GUID of the joystick, empty if disconnected
+     * @param name the name of the joystick
+     * @param gamepad true if the joystick is connected and has a gamepad mapping, else false
+     */
+    public record Info(int id, boolean connected, @NotNull String guid, @NotNull String name, boolean gamepad) {
+        static @NotNull Info disconnected(int id) {
+            return new Info(id, false, "", String.valueOf(id), false);
+        }
+    }
+}
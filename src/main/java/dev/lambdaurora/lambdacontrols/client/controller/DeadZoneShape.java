@@ -0,0 +1,59 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import org.aperlambda.lambdacommon.utils.Nameable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Represents the shapes of the dead zones of the analog sticks.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public enum DeadZoneShape implements Nameable {
+    /**
+     * Each axis has its own dead zone, which makes a square dead zone snapping the stick to the axes.
+     */
+    AXIAL("axial"),
+    /**
+     * The dead zone is a circle, the magnitude outside of it is kept as is.
+     */
+    RADIAL("radial"),
+    /**
+     * The dead zone is a circle, the magnitude outside of it is scaled to start from {@code 0}.
+     */
+    SCALED_RADIAL("scaled_radial");
+
+    private final String name;
+
+    DeadZoneShape(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the dead zone shape from its identifier.
+     *
+     * @param id the identifier of the dead zone shape
+     * @return the dead zone shape if found, else empty
+     */
+    public static @NotNull Optional<DeadZoneShape> byId(@NotNull String id) {
+        return Arrays.stream(values()).filter(shape -> shape.getName().equalsIgnoreCase(id)).findFirst();
+    }
+}
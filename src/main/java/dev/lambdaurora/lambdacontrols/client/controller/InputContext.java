@@ -0,0 +1,121 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import dev.lambdaurora.lambdacontrols.client.compat.LambdaControlsCompat;
+import dev.lambdaurora.spruceui.screen.SpruceScreen;
+import net.minecraft.client.MinecraftClient;
+import net.minecraft.client.gui.screen.Screen;
+import net.minecraft.client.gui.screen.advancement.AdvancementsScreen;
+import net.minecraft.client.gui.screen.ingame.CreativeInventoryScreen;
+import net.minecraft.client.gui.screen.ingame.HandledScreen;
+import net.minecraft.client.gui.screen.pack.PackScreen;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Represents an input context in which button bindings can be available.
+ * <p>
+ * The current contexts are represented as a bitmask, as a screen can match multiple contexts at once.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public enum InputContext {
+    IN_GAME,
+    HANDLED_SCREEN,
+    CREATIVE_INVENTORY,
+    ADVANCEMENTS,
+    INTERACTIVE_SCREEN,
+    NON_INTERACTIVE_SCREEN,
+    COMPAT_SCREEN;
+
+    /**
+     * The mask of all contexts.
+     */
+    public static final int ALL = (1 << values().length) - 1;
+
+    private final int mask;
+
+    InputContext() {
+        this.mask = 1 << this.ordinal();
+    }
+
+    /**
+     * Returns the mask of this context.
+     *
+     * @return the mask
+     */
+    public int mask() {
+        return this.mask;
+    }
+
+    /**
+     * Returns whether this context is part of the specified contexts.
+     *
+     * @param contexts the contexts mask
+     * @return true if this context is part of the specified contexts, else false
+     */
+    public boolean isIn(int contexts) {
+        return (contexts & this.mask) != 0;
+    }
+
+    /**
+     * Returns the mask of the specified contexts.
+     *
+     * @param contexts the contexts
+     * @return the mask
+     */
+    public static int maskOf(@NotNull InputContext... contexts) {
+        int mask = 0;
+        for (var context : contexts)
+            mask |= context.mask;
+        return mask;
+    }
+
+    /**
+     * Classifies the current contexts of the client.
+     *
+     * @param client the client instance
+     * @return the mask of the current contexts
+     */
+    public static int of(@NotNull MinecraftClient client) {
+        return of(client.currentScreen);
+    }
+
+    /**
+     * Classifies the contexts of the specified screen.
+     *
+     * @param screen the screen, or {@code null} if in game
+     * @return the mask of the contexts
+     */
+    public static int of(@Nullable Screen screen) {
+        if (screen == null)
+            return IN_GAME.mask;
+
+        int contexts = 0;
+        if (screen instanceof HandledScreen) {
+            contexts |= HANDLED_SCREEN.mask;
+            if (screen instanceof CreativeInventoryScreen)
+                contexts |= CREATIVE_INVENTORY.mask;
+        } else if (screen instanceof AdvancementsScreen) {
+            contexts |= ADVANCEMENTS.mask;
+        }
+        if (LambdaControlsCompat.requireMouseOnScreen(screen))
+            contexts |= COMPAT_SCREEN.mask;
+
+        if (contexts != 0 || screen instanceof PackScreen || (screen instanceof SpruceScreen spruceScreen && spruceScreen.requiresCursor()))
+            contexts |= NON_INTERACTIVE_SCREEN.mask;
+        else
+            contexts |= INTERACTIVE_SCREEN.mask;
+        return contexts;
+    }
+}
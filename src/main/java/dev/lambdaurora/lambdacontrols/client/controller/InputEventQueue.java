@@ -0,0 +1,111 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+/**
+ * Represents a bounded queue of controller button edges, in the order they were sampled.
+ * <p>
+ * Each edge is a press or a release of a button of a controller, timestamped with {@link System#nanoTime()}.
+ * The edges are stored in preallocated parallel arrays, edges pushed while the queue is full are dropped.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class InputEventQueue {
+    private final int[] controllers;
+    private final int[] buttons;
+    private final boolean[] presses;
+    private final long[] times;
+    private int size = 0;
+
+    public InputEventQueue(int capacity) {
+        this.controllers = new int[capacity];
+        this.buttons = new int[capacity];
+        this.presses = new boolean[capacity];
+        this.times = new long[capacity];
+    }
+
+    /**
+     * Pushes an edge at the end of the queue.
+     *
+     * @param controller the controller identifier
+     * @param button the button of the controller
+     * @param press {@code true} if the button got pressed, {@code false} if it got released
+     * @param time the time of the edge
+     * @return {@code true} if the edge has been queued, or {@code false} if the queue is full
+     */
+    public boolean push(int controller, int button, boolean press, long time) {
+        if (this.size == this.buttons.length)
+            return false;
+        this.controllers[this.size] = controller;
+        this.buttons[this.size] = button;
+        this.presses[this.size] = press;
+        this.times[this.size] = time;
+        this.size++;
+        return true;
+    }
+
+    /**
+     * Returns the number of queued edges.
+     *
+     * @return the number of queued edges
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Returns the controller identifier of the specified edge.
+     *
+     * @param index the index of the edge
+     * @return the controller identifier
+     */
+    public int getController(int index) {
+        return this.controllers[index];
+    }
+
+    /**
+     * Returns the button of the specified edge.
+     *
+     * @param index the index of the edge
+     * @return the button of the controller
+     */
+    public int getButton(int index) {
+        return this.buttons[index];
+    }
+
+    /**
+     * Returns whether the specified edge is a press.
+     *
+     * @param index the index of the edge
+     * @return {@code true} if the button got pressed, {@code false} if it got released
+     */
+    public boolean isPress(int index) {
+        return this.presses[index];
+    }
+
+    /**
+     * Returns the time of the specified edge.
+     *
+     * @param index the index of the edge
+     * @return the {@link System#nanoTime()} timestamp of the edge
+     */
+    public long getTime(int index) {
+        return this.times[index];
+    }
+
+    /**
+     * Removes all the queued edges.
+     */
+    public void clear() {
+        this.size = 0;
+    }
+}
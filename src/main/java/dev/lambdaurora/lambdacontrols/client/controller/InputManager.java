@@ -13,9 +13,9 @@ import dev.lambdaurora.lambdacontrols.ControlsMode;
 import dev.lambdaurora.lambdacontrols.client.ButtonState;
 import dev.lambdaurora.lambdacontrols.client.LambdaControlsClient;
 import dev.lambdaurora.lambdacontrols.client.LambdaControlsConfig;
+import dev.lambdaurora.lambdacontrols.client.event.AxisMovedCallback;
 import dev.lambdaurora.lambdacontrols.client.util.MouseAccessor;
 import it.unimi.dsi.fastutil.ints.*;
-import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.minecraft.client.MinecraftClient;
 import net.minecraft.client.option.KeyBinding;
 import net.minecraft.client.util.InputUtil;
@@ -34,15 +34,46 @@ import java.util.stream.Stream;
  * Represents an input manager for controllers.
  *
  * @author LambdAurora
- * @version 1.7.0
+ * @version 1.8.0
  * @since 1.1.0
  */
 public class InputManager {
     public static final InputManager INPUT_MANAGER = new InputManager();
-    private static final List<ButtonBinding> BINDINGS = new ArrayList<>();
+    private static final ButtonBindingRegistry BINDINGS = new ButtonBindingRegistry();
     private static final List<ButtonCategory> CATEGORIES = new ArrayList<>();
-    public static final Int2ObjectMap<ButtonState> STATES = new Int2ObjectOpenHashMap<>();
-    public static final Int2FloatMap BUTTON_VALUES = new Int2FloatOpenHashMap();
+    public static final ButtonStateTable STATE_TABLE = new ButtonStateTable(ButtonBinding.MAX_DEVICES);
+    /**
+     * View of {@link #STATE_TABLE} states, kept for compatibility.
+     */
+    public static final Int2ObjectMap<ButtonState> STATES = STATE_TABLE.statesView();
+    /**
+     * View of {@link #STATE_TABLE} values, kept for compatibility.
+     */
+    public static final Int2FloatMap BUTTON_VALUES = STATE_TABLE.valuesView();
+    private static final int[] NO_BINDINGS = new int[0];
+    private static final int AXIS_COUNT = GLFW.GLFW_GAMEPAD_AXIS_LAST + 1;
+    private static final AxisMovedCallback[] NO_AXIS_LISTENERS = new AxisMovedCallback[0];
+    // Listeners of each axis of each device, indexed by device index then axis.
+    private static final AxisMovedCallback[][] AXIS_LISTENERS = new AxisMovedCallback[ButtonBinding.MAX_DEVICES * AXIS_COUNT][];
+
+    static {
+        Arrays.fill(AXIS_LISTENERS, NO_AXIS_LISTENERS);
+    }
+    // Inverted index from state table slot to the indices of the bindings using it.
+    private static int[][] bindingsBySlot = new int[0][];
+    private static int bindingIndexGeneration = -1;
+    private static long[] evaluatedBindings = new long[0];
+    private static long[] pressedBindings = new long[0];
+    private static long[] coolingBindings = new long[0];
+    // Bindings available in each context, bindings with a custom filter are in every context.
+    private static long[][] contextBindings = new long[0][];
+    private static long[] availableBindings = new long[0];
+    private static int availableContexts = -1;
+    // Per-tick dispatch buffers, indexed like the ordered bindings.
+    private static ButtonState[] dispatchStates = new ButtonState[0];
+    private static float[] dispatchValues = new float[0];
+    private static int[] dispatchQueue = new int[0];
+    private static final long[] SKIP_SLOTS = new long[(STATE_TABLE.size() + 63) >> 6];
     private int prevTargetMouseX = 0;
     private int prevTargetMouseY = 0;
     private int targetMouseX = 0;
@@ -113,7 +144,7 @@ public class InputManager {
      * @return true if the binding is registered, else false
      */
     public static boolean hasBinding(@NotNull String name) {
-        return BINDINGS.parallelStream().map(ButtonBinding::getName).anyMatch(binding -> binding.equalsIgnoreCase(name));
+        return BINDINGS.get(name) != null;
     }
 
     /**
@@ -126,6 +157,26 @@ public class InputManager {
         return hasBinding(identifier.getNamespace() + "." + identifier.getName());
     }
 
+    /**
+     * Gets the binding with the specified name, ignoring case.
+     *
+     * @param name the name of the binding
+     * @return the binding if registered
+     */
+    public static @NotNull Optional<ButtonBinding> getBinding(@NotNull String name) {
+        return Optional.ofNullable(BINDINGS.get(name));
+    }
+
+    /**
+     * Gets the binding with the specified identifier.
+     *
+     * @param identifier the identifier of the binding
+     * @return the binding if registered
+     */
+    public static @NotNull Optional<ButtonBinding> getBinding(@NotNull Identifier identifier) {
+        return getBinding(identifier.getNamespace() + "." + identifier.getName());
+    }
+
     /**
      * Registers a button binding.
      *
@@ -133,9 +184,8 @@ public class InputManager {
      * @return the registered binding
      */
     public static @NotNull ButtonBinding registerBinding(@NotNull ButtonBinding binding) {
-        if (hasBinding(binding))
+        if (!BINDINGS.add(binding))
             throw new IllegalStateException("Cannot register twice a button binding in the registry.");
-        BINDINGS.add(binding);
         return binding;
     }
 
@@ -157,15 +207,20 @@ public class InputManager {
 
     /**
      * Sorts bindings to get bindings with the higher button counts first.
+     * <p>
+     * The registry is kept sorted incrementally, this only invalidates the indexes derived from it.
      */
     public static void sortBindings() {
-        synchronized (BINDINGS) {
-            var sorted = BINDINGS.stream()
-                    .sorted(Collections.reverseOrder(Comparator.comparingInt(binding -> binding.getButton().length)))
-                    .collect(Collectors.toList());
-            BINDINGS.clear();
-            BINDINGS.addAll(sorted);
-        }
+        BINDINGS.invalidate();
+    }
+
+    /**
+     * Updates the registry after the buttons of the specified binding changed.
+     *
+     * @param binding the binding
+     */
+    static void onBindingButtonChanged(@NotNull ButtonBinding binding) {
+        BINDINGS.update(binding);
     }
 
     /**
@@ -199,8 +254,21 @@ public class InputManager {
      * @param config the configuration instance
      */
     public static void loadButtonBindings(@NotNull LambdaControlsConfig config) {
-        var queue = new ArrayList<>(BINDINGS);
-        queue.forEach(config::loadButtonBinding);
+        var bindings = new ArrayList<>(BINDINGS.registrationOrder());
+        var buttons = config.readButtonBindings(bindings);
+        // Bindings are only reordered on the next read, so the whole load results in a single rebuild.
+        for (int i = 0; i < buttons.length; i++) {
+            var binding = bindings.get(i);
+            if (!Arrays.equals(binding.getButton(), buttons[i]))
+                binding.setButton(buttons[i]);
+        }
+
+        if (config.hasDebug()) {
+            for (var conflict : getConflicts()) {
+                LambdaControlsClient.get().log("Conflicting bindings on " + conflict.get(0).getButtonCode() + ": "
+                        + conflict.stream().map(ButtonBinding::getName).collect(Collectors.joining(", ")) + ".");
+            }
+        }
     }
 
     /**
@@ -212,7 +280,7 @@ public class InputManager {
     public static @NotNull ButtonState getBindingState(@NotNull ButtonBinding binding) {
         var state = ButtonState.REPEAT;
         for (int btn : binding.getButton()) {
-            var btnState = InputManager.STATES.getOrDefault(btn, ButtonState.NONE);
+            var btnState = STATE_TABLE.getState(btn);
             if (btnState == ButtonState.PRESS)
                 state = ButtonState.PRESS;
             else if (btnState == ButtonState.RELEASE) {
@@ -233,7 +301,7 @@ public class InputManager {
         float value = 0.f;
         for (int btn : binding.getButton()) {
             if (ButtonBinding.isAxis(btn)) {
-                value = BUTTON_VALUES.getOrDefault(btn, 1.f);
+                value = STATE_TABLE.getValue(btn);
                 break;
             } else {
                 value = 1.f;
@@ -249,7 +317,7 @@ public class InputManager {
      * @return true if the button has duplicated bindings, else false
      */
     public static boolean hasDuplicatedBindings(int[] button) {
-        return BINDINGS.parallelStream().filter(binding -> areButtonsEquivalent(binding.getButton(), button)).count() > 1;
+        return BINDINGS.getBound(button).size() > 1;
     }
 
     /**
@@ -259,7 +327,26 @@ public class InputManager {
      * @return true if the button has duplicated bindings, else false
      */
     public static boolean hasDuplicatedBindings(ButtonBinding binding) {
-        return BINDINGS.parallelStream().filter(other -> areButtonsEquivalent(other.getButton(), binding.getButton()) && other.filter.equals(binding.filter)).count() > 1;
+        var bound = BINDINGS.getBound(binding);
+        if (bound.size() < 2)
+            return false;
+        int count = 0;
+        for (var other : bound) {
+            if (ButtonBindingRegistry.areCompatible(other, binding) && ++count > 1)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the bindings bound to the same buttons, grouped by buttons, contexts and filter.
+     * <p>
+     * Unbound bindings are not considered in conflict.
+     *
+     * @return the conflicting binding groups
+     */
+    public static @NotNull List<List<ButtonBinding>> getConflicts() {
+        return BINDINGS.conflicts();
     }
 
     /**
@@ -292,54 +379,263 @@ public class InputManager {
      * @return true if the button set contains the specified button, else false
      */
     public static boolean containsButton(int[] buttons, int button) {
-        return Arrays.stream(buttons).anyMatch(btn -> btn == button);
+        for (int btn : buttons) {
+            if (btn == button)
+                return true;
+        }
+        return false;
     }
 
     /**
      * Updates the button states.
      */
     public static void updateStates() {
-        for (var entry : STATES.int2ObjectEntrySet()) {
-            if (entry.getValue() == ButtonState.PRESS)
-                STATES.put(entry.getIntKey(), ButtonState.REPEAT);
-            else if (entry.getValue() == ButtonState.RELEASE)
-                STATES.put(entry.getIntKey(), ButtonState.NONE);
+        STATE_TABLE.update();
+    }
+
+    /**
+     * Rebuilds the index from state table slots to bindings, and the binding masks which depend on the bindings order.
+     */
+    private static void rebuildBindingIndex(@NotNull List<ButtonBinding> bindings) {
+        int slots = STATE_TABLE.size();
+        var counts = new int[slots];
+        for (var binding : bindings) {
+            for (int btn : binding.getButton()) {
+                int slot = ButtonStateTable.slot(btn);
+                if (slot >= 0 && slot < slots)
+                    counts[slot]++;
+            }
+        }
+
+        var index = new int[slots][];
+        for (int slot = 0; slot < slots; slot++) {
+            index[slot] = counts[slot] == 0 ? NO_BINDINGS : new int[counts[slot]];
+            counts[slot] = 0;
+        }
+
+        int words = (bindings.size() + 63) >> 6;
+        evaluatedBindings = new long[words];
+        pressedBindings = new long[words];
+        coolingBindings = new long[words];
+        var contexts = InputContext.values();
+        contextBindings = new long[contexts.length][words];
+        availableBindings = new long[words];
+        availableContexts = -1;
+        dispatchStates = new ButtonState[bindings.size()];
+        dispatchValues = new float[bindings.size()];
+        dispatchQueue = new int[bindings.size()];
+
+        for (int i = 0; i < bindings.size(); i++) {
+            var binding = bindings.get(i);
+            for (int btn : binding.getButton()) {
+                int slot = ButtonStateTable.slot(btn);
+                if (slot >= 0 && slot < slots)
+                    index[slot][counts[slot]++] = i;
+            }
+            if (binding.pressed)
+                pressedBindings[i >> 6] |= 1L << i;
+            if (binding.isCoolingDown())
+                coolingBindings[i >> 6] |= 1L << i;
+            for (var context : contexts) {
+                if (binding.hasCustomFilter() || context.isIn(binding.getContexts()))
+                    contextBindings[context.ordinal()][i >> 6] |= 1L << i;
+            }
+        }
+
+        bindingsBySlot = index;
+        bindingIndexGeneration = BINDINGS.generation();
+    }
+
+    private static void updateAvailableBindings(int contexts) {
+        Arrays.fill(availableBindings, 0L);
+        for (var context : InputContext.values()) {
+            if (!context.isIn(contexts))
+                continue;
+            var bindings = contextBindings[context.ordinal()];
+            for (int word = 0; word < availableBindings.length; word++)
+                availableBindings[word] |= bindings[word];
+        }
+        availableContexts = contexts;
+    }
+
+    private static boolean touchesSkippedButton(@NotNull ButtonBinding binding) {
+        for (int btn : binding.getButton()) {
+            int slot = ButtonStateTable.slot(btn);
+            if (slot >= 0 && slot < STATE_TABLE.size() && (SKIP_SLOTS[slot >> 6] & (1L << slot)) != 0)
+                return true;
+        }
+        return false;
+    }
+
+    private static void setBit(long[] mask, int index, boolean value) {
+        if (value)
+            mask[index >> 6] |= 1L << index;
+        else
+            mask[index >> 6] &= ~(1L << index);
+    }
+
+    /**
+     * Updates the cooldowns of the bindings with a running cooldown.
+     * <p>
+     * This is called once per tick, as {@link #updateBindings(MinecraftClient)} may be called several times in the same tick.
+     */
+    public static void updateCooldowns() {
+        var bindings = BINDINGS.ordered();
+        if (bindingIndexGeneration != BINDINGS.generation())
+            rebuildBindingIndex(bindings);
+
+        for (int word = 0; word < coolingBindings.length; word++) {
+            long bits = coolingBindings[word];
+            while (bits != 0) {
+                int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                var binding = bindings.get(i);
+                binding.update();
+                setBit(coolingBindings, i, binding.isCoolingDown());
+            }
         }
     }
 
+    /**
+     * Updates the bindings.
+     * <p>
+     * Only the bindings using a button whose state is not {@link ButtonState#NONE} and the pressed bindings are evaluated.
+     * Any other binding with at least one button would resolve to {@link ButtonState#NONE}.
+     * The cooldowns are not updated here but by {@link #updateCooldowns()}, so updating the bindings several times in a tick
+     * doesn't shorten them.
+     * Bindings without any button are never dispatched, even though {@link #getBindingState(ButtonBinding)} resolves them to
+     * {@link ButtonState#REPEAT}: unbound bindings use {@code -1} as their button.
+     * The current contexts are computed once, and bindings unavailable in them are skipped without testing their filter.
+     *
+     * @param client the client instance
+     */
     public static void updateBindings(@NotNull MinecraftClient client) {
-        var skipButtons = new IntArrayList();
-        record ButtonStateValue(ButtonState state, float value) {
+        updateBindings(client, InputContext.of(client));
+    }
+
+    /**
+     * Updates the bindings in the specified contexts.
+     *
+     * @param client the client instance
+     * @param contexts the mask of the current contexts
+     * @see #updateBindings(MinecraftClient)
+     */
+    static void updateBindings(MinecraftClient client, int contexts) {
+        var bindings = BINDINGS.ordered();
+        if (bindingIndexGeneration != BINDINGS.generation())
+            rebuildBindingIndex(bindings);
+
+        if (contexts != availableContexts)
+            updateAvailableBindings(contexts);
+
+        var evaluated = evaluatedBindings;
+        var available = availableBindings;
+        for (int word = 0; word < evaluated.length; word++)
+            evaluated[word] = pressedBindings[word];
+        for (int slot = STATE_TABLE.nextActiveSlot(0); slot != -1; slot = STATE_TABLE.nextActiveSlot(slot + 1)) {
+            for (int i : bindingsBySlot[slot])
+                evaluated[i >> 6] |= available[i >> 6] & (1L << i);
         }
-        var states = new Object2ObjectOpenHashMap<ButtonBinding, ButtonStateValue>();
-        for (var binding : BINDINGS) {
-            var state = binding.isAvailable(client) ? getBindingState(binding) : ButtonState.NONE;
-            if (skipButtons.stream().anyMatch(btn -> containsButton(binding.getButton(), btn))) {
-                if (binding.pressed)
-                    state = ButtonState.RELEASE;
-                else
+        Arrays.fill(SKIP_SLOTS, 0L);
+
+        var states = dispatchStates;
+        var values = dispatchValues;
+        var queue = dispatchQueue;
+        int queued = 0;
+        for (int word = 0; word < evaluated.length; word++) {
+            long bits = evaluated[word];
+            while (bits != 0) {
+                int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+
+                var binding = bindings.get(i);
+                var state = binding.isAvailable(client, contexts) ? getBindingState(binding) : ButtonState.NONE;
+                if (touchesSkippedButton(binding)) {
+                    if (binding.pressed)
+                        state = ButtonState.RELEASE;
+                    else
+                        state = ButtonState.NONE;
+                }
+
+                if (state == ButtonState.RELEASE && !binding.pressed) {
                     state = ButtonState.NONE;
-            }
+                }
 
-            if (state == ButtonState.RELEASE && !binding.pressed) {
-                state = ButtonState.NONE;
+                binding.pressed = state.isPressed();
+                if (binding.pressed) {
+                    for (int btn : binding.getButton()) {
+                        int slot = ButtonStateTable.slot(btn);
+                        if (slot >= 0 && slot < STATE_TABLE.size())
+                            SKIP_SLOTS[slot >> 6] |= 1L << slot;
+                    }
+                }
+                setBit(pressedBindings, i, binding.pressed);
+
+                if (state != ButtonState.NONE) {
+                    states[i] = state;
+                    values[i] = getBindingValue(binding, state);
+                    queue[queued++] = i;
+                }
             }
+        }
 
-            binding.pressed = state.isPressed();
-            binding.update();
-            if (binding.pressed)
-                Arrays.stream(binding.getButton()).forEach(skipButtons::add);
+        for (int j = 0; j < queued; j++) {
+            int i = queue[j];
+            bindings.get(i).handle(client, values[i], states[i]);
+        }
 
-            float value = getBindingValue(binding, state);
+        // A handler changed the bindings, the masks will be rebuilt from the bindings themselves.
+        if (bindingIndexGeneration != BINDINGS.generation())
+            return;
 
-            states.put(binding, new ButtonStateValue(state, value));
+        for (int word = 0; word < evaluated.length; word++) {
+            long bits = evaluated[word];
+            while (bits != 0) {
+                int i = (word << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                setBit(coolingBindings, i, bindings.get(i).isCoolingDown());
+            }
         }
+    }
 
-        states.forEach((binding, state) -> {
-            if (state.state() != ButtonState.NONE) {
-                binding.handle(client, state.value(), state.state());
-            }
-        });
+    /**
+     * Registers a listener of the specified axis, called when its value changes.
+     *
+     * @param axis the axis, with its device index as built by {@link ButtonBinding#deviceButton(int, int)}
+     * @param listener the listener
+     */
+    public static void registerAxisListener(int axis, @NotNull AxisMovedCallback listener) {
+        int index = axisIndex(axis);
+        if (index == -1)
+            throw new IllegalArgumentException("Unknown axis " + axis + ".");
+        var listeners = Arrays.copyOf(AXIS_LISTENERS[index], AXIS_LISTENERS[index].length + 1);
+        listeners[listeners.length - 1] = listener;
+        AXIS_LISTENERS[index] = listeners;
+    }
+
+    /**
+     * Dispatches the new value of the specified axis to its listeners.
+     *
+     * @param client the client instance
+     * @param axis the axis, with its device index
+     * @param value the new value of the axis
+     */
+    public static void dispatchAxisMoved(@NotNull MinecraftClient client, int axis, float value) {
+        int index = axisIndex(axis);
+        if (index != -1) {
+            for (var listener : AXIS_LISTENERS[index])
+                listener.apply(client, axis, value);
+        }
+        AxisMovedCallback.EVENT.invoker().apply(client, axis, value);
+    }
+
+    private static int axisIndex(int axis) {
+        int device = ButtonBinding.getDevice(axis);
+        int local = ButtonBinding.getLocalButton(axis);
+        if (local < 0 || local >= AXIS_COUNT || device >= ButtonBinding.MAX_DEVICES)
+            return -1;
+        return device * AXIS_COUNT + local;
     }
 
     public static void queueMousePosition(double x, double y) {
@@ -352,7 +648,7 @@ public class InputManager {
     }
 
     public static @NotNull Stream<ButtonBinding> streamBindings() {
-        return BINDINGS.stream();
+        return BINDINGS.ordered().stream();
     }
 
     public static @NotNull Stream<ButtonCategory> streamCategories() {
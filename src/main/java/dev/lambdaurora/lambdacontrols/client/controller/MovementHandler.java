@@ -19,7 +19,7 @@ import org.jetbrains.annotations.NotNull;
  * Represents the movement handler.
  *
  * @author LambdAurora
- * @version 1.6.0
+ * @version 1.8.0
  * @since 1.4.0
  */
 public final class MovementHandler implements PressAction {
@@ -68,9 +68,9 @@ public final class MovementHandler implements PressAction {
 
         this.shouldOverrideMovement = direction != 0;
 
-        if (LambdaControlsClient.get().config.hasAnalogMovement()) {
-            value = (float) Math.pow(value, 2);
-        } else value = 1.f;
+        // The analog value already went through the dead zone and the response curve of its stick.
+        if (!LambdaControlsClient.get().config.hasAnalogMovement())
+            value = 1.f;
 
         if (button == ButtonBinding.FORWARD || button == ButtonBinding.BACK) {
             // Handle forward movement.
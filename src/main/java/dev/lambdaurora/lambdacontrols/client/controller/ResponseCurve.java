@@ -0,0 +1,90 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import org.aperlambda.lambdacommon.utils.Nameable;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Represents the response curves of the analog axes.
+ * <p>
+ * A response curve maps the normalized magnitude of an axis, from {@code 0} to {@code 1}, to its response.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public enum ResponseCurve implements Nameable {
+    LINEAR("linear"),
+    QUADRATIC("quadratic"),
+    CUBIC("cubic"),
+    /**
+     * Interpolates the responses of evenly spaced magnitudes from {@code 0} to {@code 1} with a Catmull-Rom spline.
+     */
+    SPLINE("spline");
+
+    private final String name;
+
+    ResponseCurve(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Evaluates this response curve.
+     *
+     * @param value the normalized magnitude, from {@code 0} to {@code 1}
+     * @param points the responses of the spline, ignored by the other curves
+     * @return the response, from {@code 0} to {@code 1}
+     */
+    public float apply(float value, @NotNull float[] points) {
+        return switch (this) {
+            case LINEAR -> value;
+            case QUADRATIC -> value * value;
+            case CUBIC -> value * value * value;
+            case SPLINE -> spline(value, points);
+        };
+    }
+
+    private static float spline(float value, @NotNull float[] points) {
+        if (points.length < 2)
+            return value;
+
+        int last = points.length - 1;
+        float position = value * last;
+        int i = Math.min((int) position, last - 1);
+        float t = position - i;
+
+        float p0 = points[Math.max(i - 1, 0)];
+        float p1 = points[i];
+        float p2 = points[i + 1];
+        float p3 = points[Math.min(i + 2, last)];
+        float result = 0.5f * (2.f * p1 + (p2 - p0) * t + (2.f * p0 - 5.f * p1 + 4.f * p2 - p3) * t * t
+                + (3.f * p1 - p0 - 3.f * p2 + p3) * t * t * t);
+        return Math.max(0.f, Math.min(result, 1.f));
+    }
+
+    @Override
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets the response curve from its identifier.
+     *
+     * @param id the identifier of the response curve
+     * @return the response curve if found, else empty
+     */
+    public static @NotNull Optional<ResponseCurve> byId(@NotNull String id) {
+        return Arrays.stream(values()).filter(curve -> curve.getName().equalsIgnoreCase(id)).findFirst();
+    }
+}
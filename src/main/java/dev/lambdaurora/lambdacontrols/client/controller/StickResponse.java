@@ -0,0 +1,133 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import org.jetbrains.annotations.NotNull;
+import org.lwjgl.glfw.GLFW;
+
+/**
+ * Represents the compiled response of an analog stick, processing both of its axes at once.
+ * <p>
+ * The stick position goes through the dead zone, the response curve and the anti-dead zone,
+ * the processed vector keeps the direction of the stick. Instances are immutable.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class StickResponse {
+    public static final int LEFT_STICK = 0;
+    public static final int RIGHT_STICK = 1;
+    public static final int STICK_COUNT = 2;
+    /**
+     * The number of values written by {@link #process(float, float, float[], int)}:
+     * the X and Y responses, then the X and Y values without the response curve.
+     */
+    public static final int STRIDE = 4;
+
+    private final DeadZoneShape shape;
+    private final AxisResponse xResponse;
+    private final AxisResponse yResponse;
+    private final AxisResponse magnitudeResponse;
+    private final float deadZone;
+    private final float antiDeadZone;
+    private final float xScale;
+    private final float yScale;
+
+    private StickResponse(@NotNull DeadZoneShape shape, @NotNull AxisResponse xResponse, @NotNull AxisResponse yResponse,
+                          @NotNull AxisResponse magnitudeResponse, double deadZone, double antiDeadZone, double xMaxValue, double yMaxValue) {
+        this.shape = shape;
+        this.xResponse = xResponse;
+        this.yResponse = yResponse;
+        this.magnitudeResponse = magnitudeResponse;
+        this.deadZone = (float) deadZone;
+        this.antiDeadZone = (float) antiDeadZone;
+        this.xScale = (float) (1.0 / xMaxValue);
+        this.yScale = (float) (1.0 / yMaxValue);
+    }
+
+    /**
+     * Compiles the response of a stick.
+     * <p>
+     * The radial shapes apply the response curve of the X axis to the magnitude of the stick.
+     *
+     * @param shape the dead zone shape
+     * @param xResponse the compiled response of the X axis
+     * @param yResponse the compiled response of the Y axis
+     * @param curve the response curve of the X axis
+     * @param points the responses of the spline curve of the X axis
+     * @param deadZone the dead zone of the stick
+     * @param antiDeadZone the response the stick starts at when leaving the dead zone
+     * @param xMaxValue the max value of the X axis
+     * @param yMaxValue the max value of the Y axis
+     * @return the compiled response
+     */
+    public static @NotNull StickResponse compile(@NotNull DeadZoneShape shape, @NotNull AxisResponse xResponse, @NotNull AxisResponse yResponse,
+                                                 @NotNull ResponseCurve curve, @NotNull float[] points,
+                                                 double deadZone, double antiDeadZone, double xMaxValue, double yMaxValue) {
+        return new StickResponse(shape, xResponse, yResponse, AxisResponse.compile(curve, points, 0.0, 1.0),
+                deadZone, antiDeadZone, xMaxValue, yMaxValue);
+    }
+
+    /**
+     * Returns the stick of the specified axis.
+     *
+     * @param axis the local axis
+     * @return the stick, or {@code -1} if the axis is not part of a stick
+     */
+    public static int getStick(int axis) {
+        return switch (axis) {
+            case GLFW.GLFW_GAMEPAD_AXIS_LEFT_X, GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y -> LEFT_STICK;
+            case GLFW.GLFW_GAMEPAD_AXIS_RIGHT_X, GLFW.GLFW_GAMEPAD_AXIS_RIGHT_Y -> RIGHT_STICK;
+            default -> -1;
+        };
+    }
+
+    /**
+     * Processes the position of the stick.
+     *
+     * @param x the raw X axis value
+     * @param y the raw Y axis value
+     * @param out the array to write the {@link #STRIDE} processed values into
+     * @param offset the offset of the values in the array
+     */
+    public void process(float x, float y, @NotNull float[] out, int offset) {
+        if (this.shape == DeadZoneShape.AXIAL) {
+            out[offset] = Math.copySign(this.antiDeadZone(this.xResponse.apply(Math.abs(x))), x);
+            out[offset + 1] = Math.copySign(this.antiDeadZone(this.yResponse.apply(Math.abs(y))), y);
+            out[offset + 2] = Math.copySign(this.antiDeadZone(this.xResponse.normalize(Math.abs(x))), x);
+            out[offset + 3] = Math.copySign(this.antiDeadZone(this.yResponse.normalize(Math.abs(y))), y);
+            return;
+        }
+
+        x *= this.xScale;
+        y *= this.yScale;
+        float magnitude = (float) Math.sqrt(x * x + y * y);
+        if (magnitude <= this.deadZone) {
+            out[offset] = out[offset + 1] = out[offset + 2] = out[offset + 3] = 0.f;
+            return;
+        }
+
+        float scaled = this.shape == DeadZoneShape.RADIAL ? magnitude : (magnitude - this.deadZone) / (1.f - this.deadZone);
+        scaled = Math.min(scaled, 1.f);
+        float response = this.antiDeadZone(this.magnitudeResponse.apply(scaled)) / magnitude;
+        float linear = this.antiDeadZone(scaled) / magnitude;
+        out[offset] = x * response;
+        out[offset + 1] = y * response;
+        out[offset + 2] = x * linear;
+        out[offset + 3] = y * linear;
+    }
+
+    private float antiDeadZone(float value) {
+        if (value == 0.f)
+            return 0.f;
+        return this.antiDeadZone + (1.f - this.antiDeadZone) * value;
+    }
+}
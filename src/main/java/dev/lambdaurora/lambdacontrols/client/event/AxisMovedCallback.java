@@ -0,0 +1,44 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.event;
+
+import dev.lambdaurora.lambdacontrols.client.controller.InputManager;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an event callback which is fired when a controller axis moves.
+ * <p>
+ * {@link #EVENT} is fired for every axis, listeners of a single axis
+ * should be registered with {@link InputManager#registerAxisListener(int, AxisMovedCallback)} instead.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface AxisMovedCallback {
+    Event<AxisMovedCallback> EVENT = EventFactory.createArrayBacked(AxisMovedCallback.class, listeners -> (client, axis, value) -> {
+        for (AxisMovedCallback event : listeners) {
+            event.apply(client, axis, value);
+        }
+    });
+
+    /**
+     * Called on the client thread when the value of the specified axis changes.
+     *
+     * @param client the client instance
+     * @param axis the axis, with its device index as built by {@link dev.lambdaurora.lambdacontrols.client.controller.ButtonBinding#deviceButton(int, int)}
+     * @param value the new raw value of the axis, between {@code -1} and {@code 1}
+     */
+    void apply(@NotNull MinecraftClient client, int axis, float value);
+}
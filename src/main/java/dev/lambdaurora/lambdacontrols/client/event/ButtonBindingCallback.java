@@ -0,0 +1,46 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.event;
+
+import dev.lambdaurora.lambdacontrols.client.ButtonState;
+import dev.lambdaurora.lambdacontrols.client.controller.ButtonBinding;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import net.minecraft.client.MinecraftClient;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an event callback which is fired when a button binding is pressed, repeated or released.
+ * <p>
+ * {@link #EVENT} is fired for every button binding, listeners of a single binding
+ * should be registered with {@link ButtonBinding#registerListener(ButtonBindingCallback)} instead.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface ButtonBindingCallback {
+    Event<ButtonBindingCallback> EVENT = EventFactory.createArrayBacked(ButtonBindingCallback.class, listeners -> (client, binding, state, value) -> {
+        for (ButtonBindingCallback event : listeners) {
+            event.apply(client, binding, state, value);
+        }
+    });
+
+    /**
+     * Called on the client thread when the specified binding is dispatched, before its press actions.
+     *
+     * @param client the client instance
+     * @param binding the button binding
+     * @param state the state of the binding, either {@link ButtonState#PRESS}, {@link ButtonState#REPEAT} or {@link ButtonState#RELEASE}
+     * @param value the value of the binding
+     */
+    void apply(@NotNull MinecraftClient client, @NotNull ButtonBinding binding, @NotNull ButtonState state, float value);
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.event;
+
+import dev.lambdaurora.lambdacontrols.client.controller.ControllerRegistry;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an event callback which is fired when a controller is connected or disconnected.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface ControllerConnectionCallback {
+    Event<ControllerConnectionCallback> EVENT = EventFactory.createArrayBacked(ControllerConnectionCallback.class, listeners -> info -> {
+        for (ControllerConnectionCallback event : listeners) {
+            event.apply(info);
+        }
+    });
+
+    /**
+     * Called on the client thread when a controller is connected or disconnected.
+     *
+     * @param info the new metadata of the controller
+     */
+    void apply(@NotNull ControllerRegistry.Info info);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.event;
+
+import dev.lambdaurora.lambdacontrols.ControlsMode;
+import net.fabricmc.fabric.api.event.Event;
+import net.fabricmc.fabric.api.event.EventFactory;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Represents an event callback which is fired when the controls mode of the client changes.
+ * <p>
+ * It is not fired when the configuration is first loaded, as there is no previous controls mode then.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+@FunctionalInterface
+public interface ControlsModeChangedCallback {
+    Event<ControlsModeChangedCallback> EVENT = EventFactory.createArrayBacked(ControlsModeChangedCallback.class, listeners -> (previous, controlsMode) -> {
+        for (ControlsModeChangedCallback event : listeners) {
+            event.apply(previous, controlsMode);
+        }
+    });
+
+    /**
+     * Called when the controls mode changes.
+     *
+     * @param previous the previous controls mode
+     * @param controlsMode the new controls mode
+     */
+    void apply(@NotNull ControlsMode previous, @NotNull ControlsMode controlsMode);
+}
@@ -35,9 +35,18 @@ public class LambdaControlsRenderer {
     public static final int ICON_SIZE = 20;
     private static final int BUTTON_SIZE = 15;
     private static final int AXIS_SIZE = 18;
+    // Tints of the buttons of each device, the buttons of the first device aren't tinted.
+    private static final float[][] DEVICE_TINTS = {
+            {1.f, 1.f, 1.f},
+            {1.f, 0.f, 1.f},
+            {0.f, 1.f, 1.f},
+            {1.f, 1.f, 0.f},
+            {1.f, .5f, 0.f},
+            {.5f, 1.f, .5f}
+    };
 
     public static int getButtonSize(int button) {
-        return switch (button) {
+        return switch (ButtonBinding.getLocalButton(button)) {
             case -1 -> 0;
             case GLFW.GLFW_GAMEPAD_AXIS_LEFT_X + 100, GLFW.GLFW_GAMEPAD_AXIS_LEFT_X + 200,
                     GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y + 100, GLFW.GLFW_GAMEPAD_AXIS_LEFT_Y + 200,
@@ -98,13 +107,10 @@ public class LambdaControlsRenderer {
 
     @SuppressWarnings("deprecated")
     public static int drawButton(MatrixStack matrices, int x, int y, int button, @NotNull MinecraftClient client) {
-        boolean second = false;
         if (button == -1)
             return 0;
-        else if (button >= 500) {
-            button -= 1000;
-            second = true;
-        }
+        var tint = DEVICE_TINTS[ButtonBinding.getDevice(button) % DEVICE_TINTS.length];
+        button = ButtonBinding.getLocalButton(button);
 
         int controllerType = LambdaControlsClient.get().config.getControllerType().getId();
         boolean axis = false;
@@ -158,11 +164,12 @@ public class LambdaControlsRenderer {
 
         int assetSize = axis ? AXIS_SIZE : BUTTON_SIZE;
 
-        RenderSystem.setShaderColor(1.f, second ? 0.f : 1.f, 1.f, 1.f);
+        RenderSystem.setShaderColor(tint[0], tint[1], tint[2], 1.f);
         DrawableHelper.drawTexture(matrices, x + (ICON_SIZE / 2 - assetSize / 2), y + (ICON_SIZE / 2 - assetSize / 2),
                 (float) buttonOffset, (float) (controllerType * (axis ? AXIS_SIZE : BUTTON_SIZE)),
                 assetSize, assetSize,
                 256, 256);
+        RenderSystem.setShaderColor(1.f, 1.f, 1.f, 1.f);
         RenderSystem.enableDepthTest();
 
         return ICON_SIZE;
@@ -107,6 +107,7 @@ public class LambdaControlsSettingsScreen extends SpruceScreen {
             }).orElse(option.getDisplayText(SpruceTexts.OPTIONS_OFF.shallowCopy().formatted(Formatting.RED))),
             new TranslatableText("lambdacontrols.tooltip.controller2"));
     private final SpruceOption unfocusedInputOption;
+    private final SpruceOption perFrameLookOption;
     private final SpruceOption invertsRightXAxis;
     private final SpruceOption invertsRightYAxis;
     private final SpruceOption axeButtonThresholdOption;
@@ -262,6 +263,8 @@ public class LambdaControlsSettingsScreen extends SpruceScreen {
                 }, null);
         this.unfocusedInputOption = new SpruceToggleBooleanOption("lambdacontrols.menu.unfocused_input", this.config::hasUnfocusedInput,
                 this.config::setUnfocusedInput, new TranslatableText("lambdacontrols.tooltip.unfocused_input"));
+        this.perFrameLookOption = new SpruceToggleBooleanOption("lambdacontrols.menu.per_frame_look", this.config::hasPerFrameLook,
+                this.config::setPerFrameLook, new TranslatableText("lambdacontrols.tooltip.per_frame_look"));
         this.virtualMouseOption = new SpruceToggleBooleanOption("lambdacontrols.menu.virtual_mouse", this.config::hasVirtualMouse,
                 this.config::setVirtualMouse, new TranslatableText("lambdacontrols.tooltip.virtual_mouse"));
     }
@@ -383,6 +386,7 @@ public class LambdaControlsSettingsScreen extends SpruceScreen {
         list.addSingleOptionEntry(this.controllerOption);
         list.addSingleOptionEntry(this.secondControllerOption);
         list.addSingleOptionEntry(this.unfocusedInputOption);
+        list.addSingleOptionEntry(this.perFrameLookOption);
         list.addOptionEntry(this.invertsRightXAxis, this.invertsRightYAxis);
         list.addSingleOptionEntry(this.axeButtonThresholdOption);
         list.addSingleOptionEntry(this.rightDeadZoneOption);
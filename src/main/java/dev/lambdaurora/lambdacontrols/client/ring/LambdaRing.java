@@ -32,6 +32,8 @@ public final class LambdaRing {
     private final Map<String, RingAction.Factory> actionFactories = new Object2ObjectOpenHashMap<>();
     private final List<RingPage> pages = new ArrayList<>(Collections.singletonList(RingPage.DEFAULT));
     private final LambdaControlsClient mod;
+    private List<Config> pendingPages;
+    private boolean loaded = true;
     private int currentPage = 0;
 
     public LambdaRing(@NotNull LambdaControlsClient mod) {
@@ -48,23 +50,33 @@ public final class LambdaRing {
 
     /**
      * Loads the ring from configuration.
+     * <p>
+     * The pages are only parsed on the first use of the ring.
      *
      * @param config the configuration
      */
     public void load(@NotNull Config config) {
-        List<Config> configPages = config.get("ring.pages");
-        if (configPages != null) {
+        this.pendingPages = config.get("ring.pages");
+        this.loaded = false;
+    }
+
+    private void parsePages() {
+        if (this.pendingPages != null) {
             this.pages.clear();
-            for (var configPage : configPages) {
+            for (var configPage : this.pendingPages) {
                 RingPage.parseRingPage(configPage).ifPresent(this.pages::add);
             }
         }
         if (this.pages.isEmpty()) {
             this.pages.add(RingPage.DEFAULT);
         }
+        this.pendingPages = null;
+        this.loaded = true;
     }
 
     public @NotNull RingPage getCurrentPage() {
+        if (!this.loaded)
+            this.mod.initProfiler.runLazy("ring pages", this::parsePages);
         if (this.currentPage >= this.pages.size())
             this.currentPage = this.pages.size() - 1;
         else if (this.currentPage < 0)
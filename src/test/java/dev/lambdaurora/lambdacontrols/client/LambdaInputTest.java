@@ -0,0 +1,46 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LambdaInputTest {
+    private static final double ROTATION_SPEED = 40.0;
+    private static final float STICK = 0.6f;
+
+    // Integrates one second of the same stick input at the specified frame rate.
+    private static double rotationOverOneSecond(int fps) {
+        double rate = LambdaInput.getStickLookRate(ROTATION_SPEED, STICK);
+        double rotation = 0.0;
+        long last = 0;
+        for (int frame = 1; frame <= fps; frame++) {
+            long now = Math.round(frame * 1_000_000_000.0 / fps);
+            rotation += LambdaInput.integrateLook(rate, last, now);
+            last = now;
+        }
+        return rotation;
+    }
+
+    @Test
+    void frameLookDoesNotDependOnFrameRate() {
+        double expected = LambdaInput.getStickLookRate(ROTATION_SPEED, STICK);
+        assertEquals(expected, rotationOverOneSecond(30), 1e-6);
+        assertEquals(expected, rotationOverOneSecond(240), 1e-6);
+        assertEquals(rotationOverOneSecond(30), rotationOverOneSecond(240), 1e-6);
+    }
+
+    @Test
+    void longFramesAreClamped() {
+        double rate = LambdaInput.getStickLookRate(ROTATION_SPEED, STICK);
+        assertEquals(rate * 0.1, LambdaInput.integrateLook(rate, 0, 2_000_000_000L), 1e-9);
+    }
+}
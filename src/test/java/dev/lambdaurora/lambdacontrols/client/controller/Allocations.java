@@ -0,0 +1,55 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Measures the heap allocations of the current thread.
+ *
+ * @author LambdAurora
+ * @version 1.8.0
+ * @since 1.8.0
+ */
+public final class Allocations {
+    private static final com.sun.management.ThreadMXBean THREADS = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final int ATTEMPTS = 5;
+
+    private Allocations() {
+    }
+
+    /**
+     * Returns the bytes allocated by each run of the action in steady state.
+     * <p>
+     * The action is first run to warm it up, the lowest measure of several attempts is kept
+     * to ignore the allocations of the JIT compiler or of other code running on the thread.
+     *
+     * @param iterations the number of runs of each measure
+     * @param action the action to measure
+     * @return the bytes allocated per run, rounded down
+     */
+    public static long perRun(int iterations, Runnable action) {
+        if (!THREADS.isThreadAllocatedMemorySupported())
+            throw new IllegalStateException("Thread allocation measurement isn't supported by this JVM.");
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+
+        for (int i = 0; i < iterations; i++)
+            action.run();
+
+        long allocated = Long.MAX_VALUE;
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            long start = THREADS.getCurrentThreadAllocatedBytes();
+            for (int i = 0; i < iterations; i++)
+                action.run();
+            allocated = Math.min(allocated, THREADS.getCurrentThreadAllocatedBytes() - start);
+        }
+        return allocated / iterations;
+    }
+}
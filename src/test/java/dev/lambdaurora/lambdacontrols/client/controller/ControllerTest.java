@@ -0,0 +1,46 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import org.junit.jupiter.api.Test;
+import org.lwjgl.glfw.GLFW;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ControllerTest {
+    // No joystick is ever reported as connected without GLFW, so the state is sampled without any GLFW call.
+    private final Controller controller = Controller.byId(GLFW.GLFW_JOYSTICK_16);
+
+    @Test
+    void samplingDoesNotAllocate() {
+        assertEquals(0, Allocations.perRun(100_000, this.controller::getState));
+    }
+
+    @Test
+    void samplingKeepsThePreviousState() {
+        var first = this.controller.getState();
+        var second = this.controller.getState();
+        assertNotSame(first, second);
+        assertSame(first, this.controller.getPreviousState());
+        assertSame(first, this.controller.getState());
+        assertSame(second, this.controller.getPreviousState());
+    }
+
+    @Test
+    void disconnectedControllerIsNeutral() {
+        var state = this.controller.getState();
+        for (int button = 0; button <= GLFW.GLFW_GAMEPAD_BUTTON_LAST; button++)
+            assertEquals(GLFW.GLFW_RELEASE, state.buttons(button));
+        for (int axis = 0; axis <= GLFW.GLFW_GAMEPAD_AXIS_LAST; axis++)
+            assertEquals(0.f, state.axes(axis));
+    }
+}
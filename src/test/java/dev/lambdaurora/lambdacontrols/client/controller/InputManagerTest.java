@@ -0,0 +1,90 @@
+/*
+ * Copyright � 2021 LambdAurora <aurora42lambda@gmail.com>
+ *
+ * This file is part of LambdaControls.
+ *
+ * Licensed under the MIT license. For more information,
+ * see the LICENSE file.
+ */
+
+package dev.lambdaurora.lambdacontrols.client.controller;
+
+import dev.lambdaurora.lambdacontrols.client.ButtonState;
+import org.junit.jupiter.api.Test;
+import org.lwjgl.glfw.GLFW;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InputManagerTest {
+    // A button no default binding uses, bound to a binding which handles its presses without the client.
+    private static final int PROBE_BUTTON = ButtonBinding.deviceButton(ButtonBinding.MAX_DEVICES - 1, GLFW.GLFW_GAMEPAD_BUTTON_GUIDE);
+    private static final int[] PROBE_HANDLED = new int[1];
+    private static final ButtonBinding PROBE = new ButtonBinding.Builder("test.probe").buttons(PROBE_BUTTON).onlyInGame()
+            .action((client, binding, value, action) -> {
+                PROBE_HANDLED[0]++;
+                return true;
+            }).register();
+    private static final int COOLDOWN_PROBE_BUTTON = ButtonBinding.deviceButton(ButtonBinding.MAX_DEVICES - 1, GLFW.GLFW_GAMEPAD_BUTTON_BACK);
+    private static final ButtonBinding COOLDOWN_PROBE = new ButtonBinding.Builder("test.cooldown_probe").buttons(COOLDOWN_PROBE_BUTTON)
+            .action((client, binding, value, action) -> true).onlyInGame().cooldown().register();
+
+    private int ticks = 0;
+
+    // Simulates a controller tick: the probe button is pressed, held, released then left unpressed.
+    private void tick() {
+        switch (this.ticks++ & 3) {
+            case 0 -> InputManager.STATE_TABLE.setState(PROBE_BUTTON, ButtonState.PRESS);
+            case 2 -> InputManager.STATE_TABLE.setState(PROBE_BUTTON, ButtonState.RELEASE);
+        }
+        InputManager.updateCooldowns();
+        InputManager.updateBindings(null, InputContext.IN_GAME.mask());
+        InputManager.updateStates();
+    }
+
+    @Test
+    void dispatchHandlesTheProbe() {
+        int handled = PROBE_HANDLED[0];
+        for (int i = 0; i < 4; i++)
+            this.tick();
+        // Press, repeat and release.
+        assertEquals(handled + 3, PROBE_HANDLED[0]);
+        assertFalse(PROBE.isButtonDown());
+    }
+
+    @Test
+    void dispatchDoesNotAllocate() {
+        assertTrue(InputManager.hasBinding(PROBE));
+        assertEquals(0, Allocations.perRun(100_000, this::tick));
+    }
+
+    @Test
+    void repeatedDispatchDoesNotShortenCooldowns() {
+        InputManager.STATE_TABLE.setState(COOLDOWN_PROBE_BUTTON, ButtonState.PRESS);
+        InputManager.updateBindings(null, InputContext.IN_GAME.mask());
+        InputManager.STATE_TABLE.setState(COOLDOWN_PROBE_BUTTON, ButtonState.RELEASE);
+        InputManager.updateBindings(null, InputContext.IN_GAME.mask());
+        InputManager.updateStates();
+
+        // Edges replayed in the same tick update the bindings again.
+        for (int i = 0; i < ButtonBinding.DEFAULT_COOLDOWN; i++)
+            InputManager.updateBindings(null, InputContext.IN_GAME.mask());
+        assertTrue(COOLDOWN_PROBE.isCoolingDown());
+
+        for (int i = 0; i < ButtonBinding.DEFAULT_COOLDOWN; i++)
+            InputManager.updateCooldowns();
+        assertFalse(COOLDOWN_PROBE.isCoolingDown());
+    }
+
+    @Test
+    void compatibleDefaultBindingsDoNotConflict() {
+        for (var conflict : InputManager.getConflicts()) {
+            for (var binding : conflict)
+                assertFalse(binding == ButtonBinding.HOTBAR_LEFT || binding == ButtonBinding.PICK_BLOCK,
+                        binding.getName() + " is reported in conflict");
+        }
+        assertFalse(InputManager.hasDuplicatedBindings(ButtonBinding.HOTBAR_LEFT));
+        assertFalse(InputManager.hasDuplicatedBindings(ButtonBinding.PICK_BLOCK));
+    }
+}